@@ -1,202 +0,0 @@
-//
-// Diese Datei wurde mit der JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.6 generiert 
-// Siehe <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
-// Änderungen an dieser Datei gehen bei einer Neukompilierung des Quellschemas verloren. 
-// Generiert: 2014.02.11 um 02:28:32 PM CET 
-//
-
-
-package de.kontext_e.jqassistant.plugin.checkstyle.jaxb;
-
-import javax.xml.bind.annotation.XmlAccessType;
-import javax.xml.bind.annotation.XmlAccessorType;
-import javax.xml.bind.annotation.XmlAttribute;
-import javax.xml.bind.annotation.XmlType;
-import javax.xml.bind.annotation.XmlValue;
-
-
-/**
- * <p>Java-Klasse für errorType complex type.
- * 
- * <p>Das folgende Schemafragment gibt den erwarteten Content an, der in dieser Klasse enthalten ist.
- * 
- * <pre>
- * &lt;complexType name="errorType"&gt;
- *   &lt;simpleContent&gt;
- *     &lt;extension base="&lt;http://www.w3.org/2001/XMLSchema&gt;string"&gt;
- *       &lt;attribute name="line" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="column" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="severity" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="message" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="source" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *     &lt;/extension&gt;
- *   &lt;/simpleContent&gt;
- * &lt;/complexType&gt;
- * </pre>
- * 
- * 
- */
-@XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "errorType", propOrder = {
-    "value"
-})
-public class ErrorType {
-
-    @XmlValue
-    protected String value;
-    @XmlAttribute(name = "line")
-    protected String line;
-    @XmlAttribute(name = "column")
-    protected String column;
-    @XmlAttribute(name = "severity")
-    protected String severity;
-    @XmlAttribute(name = "message")
-    protected String message;
-    @XmlAttribute(name = "source")
-    protected String source;
-
-    /**
-     * Ruft den Wert der value-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getValue() {
-        return value;
-    }
-
-    /**
-     * Legt den Wert der value-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setValue(String value) {
-        this.value = value;
-    }
-
-    /**
-     * Ruft den Wert der line-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getLine() {
-        return line;
-    }
-
-    /**
-     * Legt den Wert der line-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setLine(String value) {
-        this.line = value;
-    }
-
-    /**
-     * Ruft den Wert der column-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getColumn() {
-        return column;
-    }
-
-    /**
-     * Legt den Wert der column-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setColumn(String value) {
-        this.column = value;
-    }
-
-    /**
-     * Ruft den Wert der severity-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getSeverity() {
-        return severity;
-    }
-
-    /**
-     * Legt den Wert der severity-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setSeverity(String value) {
-        this.severity = value;
-    }
-
-    /**
-     * Ruft den Wert der message-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getMessage() {
-        return message;
-    }
-
-    /**
-     * Legt den Wert der message-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setMessage(String value) {
-        this.message = value;
-    }
-
-    /**
-     * Ruft den Wert der source-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getSource() {
-        return source;
-    }
-
-    /**
-     * Legt den Wert der source-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setSource(String value) {
-        this.source = value;
-    }
-
-}
@@ -0,0 +1,80 @@
+package de.kontext_e.jqassistant.plugin.checkstyle.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamReader;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleErrorDescriptor;
+import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleFileDescriptor;
+import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleReportDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkRelationWriter;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriter;
+import de.kontext_e.jqassistant.plugin.xmlreport.RelatedDescriptors;
+import de.kontext_e.jqassistant.plugin.xmlreport.Relations;
+import de.kontext_e.jqassistant.plugin.xmlreport.XmlReportReader;
+
+/**
+ * Streams a Checkstyle XML report into the store.
+ *
+ * A file and its errors are created while their elements are read, so only the current file is held in memory,
+ * however large the report is. The exceptions Checkstyle reports for files it could not check are skipped.
+ */
+class CheckstyleReportReader {
+
+    private final Store store;
+    private final CheckstyleScannerPlugin plugin;
+    private final Relations<CheckstyleReportDescriptor, CheckstyleFileDescriptor> files;
+    private final RelatedDescriptors<CheckstyleFileDescriptor, CheckstyleErrorDescriptor> errors;
+
+    private CheckstyleFileDescriptor currentFile;
+
+    /**
+     * @param plugin Determines the name and the full qualified name of a file from its path.
+     * @param bulkImport Whether the errors and the relations of the files are written in batches.
+     */
+    CheckstyleReportReader(final Store store, final CheckstyleScannerPlugin plugin, final boolean bulkImport) {
+        this.store = store;
+        this.plugin = plugin;
+        if (bulkImport) {
+            files = new BulkRelationWriter<>(store, CheckstyleReportDescriptor.class, CheckstyleFileDescriptor.class);
+            errors = new BulkWriter<>(store, CheckstyleFileDescriptor.class, CheckstyleErrorDescriptor.class);
+        } else {
+            files = (checkstyleReportDescriptor, checkstyleFileDescriptor) -> checkstyleReportDescriptor.getFiles().add(checkstyleFileDescriptor);
+            errors = checkstyleFileDescriptor -> {
+                CheckstyleErrorDescriptor checkstyleErrorDescriptor = store.create(CheckstyleErrorDescriptor.class);
+                checkstyleFileDescriptor.getErrors().add(checkstyleErrorDescriptor);
+                return checkstyleErrorDescriptor;
+            };
+        }
+    }
+
+    void read(final InputStream inputStream, final CheckstyleReportDescriptor checkstyleReportDescriptor) throws IOException {
+        new XmlReportReader()
+                .on("file", reader -> startFile(reader, checkstyleReportDescriptor), () -> currentFile = null)
+                .on("error", this::startError)
+                .skip("exception")
+                .read(inputStream, "Checkstyle");
+        files.flush();
+        errors.flush();
+    }
+
+    private void startFile(final XMLStreamReader reader, final CheckstyleReportDescriptor checkstyleReportDescriptor) {
+        final String name = reader.getAttributeValue(null, "name");
+        currentFile = store.create(CheckstyleFileDescriptor.class);
+        currentFile.setName(plugin.truncateName(name));
+        currentFile.setFullQualifiedName(plugin.convertToFullQualifiedName(name));
+        files.add(checkstyleReportDescriptor, currentFile);
+    }
+
+    private void startError(final XMLStreamReader reader) {
+        if (null != currentFile) {
+            final CheckstyleErrorDescriptor checkstyleErrorDescriptor = errors.create(currentFile);
+            checkstyleErrorDescriptor.setLine(reader.getAttributeValue(null, "line"));
+            checkstyleErrorDescriptor.setColumn(reader.getAttributeValue(null, "column"));
+            checkstyleErrorDescriptor.setSeverity(reader.getAttributeValue(null, "severity"));
+            checkstyleErrorDescriptor.setMessage(reader.getAttributeValue(null, "message"));
+            checkstyleErrorDescriptor.setSource(reader.getAttributeValue(null, "source"));
+        }
+    }
+}
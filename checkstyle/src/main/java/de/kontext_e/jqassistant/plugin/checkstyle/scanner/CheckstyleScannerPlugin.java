@@ -2,26 +2,15 @@ package de.kontext_e.jqassistant.plugin.checkstyle.scanner;
 
 import java.io.IOException;
 import java.io.InputStream;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.transform.stream.StreamSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.buschmais.jqassistant.core.scanner.api.Scanner;
 import com.buschmais.jqassistant.core.scanner.api.Scope;
-import com.buschmais.jqassistant.core.store.api.Store;
 import com.buschmais.jqassistant.plugin.common.api.scanner.AbstractScannerPlugin;
 import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
-import de.kontext_e.jqassistant.plugin.checkstyle.jaxb.CheckstyleType;
-import de.kontext_e.jqassistant.plugin.checkstyle.jaxb.ErrorType;
-import de.kontext_e.jqassistant.plugin.checkstyle.jaxb.FileType;
-import de.kontext_e.jqassistant.plugin.checkstyle.jaxb.ObjectFactory;
 import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleReportDescriptor;
-import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleErrorDescriptor;
-import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleFileDescriptor;
 
 
 /**
@@ -33,18 +22,11 @@ public class CheckstyleScannerPlugin extends AbstractScannerPlugin<FileResource,
     public static final String JQASSISTANT_PLUGIN_CHECKSTYLE_BASEPACKAGE = "jqassistant.plugin.checkstyle.basepackage";
     public static final String JQASSISTANT_PLUGIN_CHECKSTYLE_FILENAME = "jqassistant.plugin.checkstyle.filename";
     public static final String JQASSISTANT_PLUGIN_CHECKSTYLE_DIRNAME = "jqassistant.plugin.checkstyle.dirname";
-    private JAXBContext jaxbContext;
+    public static final String JQASSISTANT_PLUGIN_CHECKSTYLE_BULKIMPORT = "jqassistant.plugin.checkstyle.bulkimport";
     private static String basePackage = "org";
     private String checkstyleFileName = "checkstyle.xml";
     private String checkstyleDirName = "checkstyle";
-
-    public CheckstyleScannerPlugin() {
-        try {
-            jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
-        } catch (JAXBException e) {
-            throw new IllegalStateException("Cannot create JAXB context.", e);
-        }
-    }
+    private boolean bulkImport = false;
 
     @Override
     public boolean accepts(FileResource item, String path, Scope scope) throws IOException {
@@ -58,33 +40,12 @@ public class CheckstyleScannerPlugin extends AbstractScannerPlugin<FileResource,
     @Override
     public CheckstyleReportDescriptor scan(final FileResource file, String path, Scope scope, Scanner scanner) throws IOException {
         LOGGER.debug("Checkstyle scans path "+path);
-        final CheckstyleType checkstyleType = unmarshalCheckstyleXml(file.createStream());
         final CheckstyleReportDescriptor checkstyleReportDescriptor = scanner.getContext().getStore().create(CheckstyleReportDescriptor.class);
         checkstyleReportDescriptor.setFileName(path);
-        readFiles(scanner.getContext().getStore(), checkstyleType, checkstyleReportDescriptor);
-        return checkstyleReportDescriptor;
-    }
-
-    private void readFiles(final Store store, final CheckstyleType checkstyleType, final CheckstyleReportDescriptor checkstyleReportDescriptor) {
-        for (FileType fileType : checkstyleType.getFile()) {
-            final CheckstyleFileDescriptor checkstyleFileDescriptor = store.create(CheckstyleFileDescriptor.class);
-            checkstyleFileDescriptor.setName(truncateName(fileType.getName()));
-            checkstyleFileDescriptor.setFullQualifiedName(convertToFullQualifiedName(fileType.getName()));
-            checkstyleReportDescriptor.getFiles().add(checkstyleFileDescriptor);
-            readErrors(store, fileType, checkstyleFileDescriptor);
-        }
-    }
-
-    private void readErrors(final Store store, final FileType fileType, final CheckstyleFileDescriptor checkstyleFileDescriptor) {
-        for (ErrorType errorType : fileType.getError()) {
-            final CheckstyleErrorDescriptor checkstyleErrorDescriptor = store.create(CheckstyleErrorDescriptor.class);
-            checkstyleErrorDescriptor.setLine(errorType.getLine());
-            checkstyleErrorDescriptor.setColumn(errorType.getColumn());
-            checkstyleErrorDescriptor.setSeverity(errorType.getSeverity());
-            checkstyleErrorDescriptor.setMessage(errorType.getMessage());
-            checkstyleErrorDescriptor.setSource(errorType.getSource());
-            checkstyleFileDescriptor.getErrors().add(checkstyleErrorDescriptor);
+        try (InputStream stream = file.createStream()) {
+            new CheckstyleReportReader(scanner.getContext().getStore(), this, bulkImport).read(stream, checkstyleReportDescriptor);
         }
+        return checkstyleReportDescriptor;
     }
 
     protected String convertToFullQualifiedName(final String name) {
@@ -108,17 +69,6 @@ public class CheckstyleScannerPlugin extends AbstractScannerPlugin<FileResource,
         return name.substring(name.lastIndexOf(System.getProperty("file.separator")) + 1);
     }
 
-    protected CheckstyleType unmarshalCheckstyleXml(final InputStream streamSource) throws IOException {
-        final CheckstyleType checkstyleType;
-        try {
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            checkstyleType = unmarshaller.unmarshal(new StreamSource(streamSource), CheckstyleType.class).getValue();
-        } catch (JAXBException e) {
-            throw new IOException("Cannot read model descriptor.", e);
-        }
-        return checkstyleType;
-    }
-
     @Override
     protected void configure() {
         super.configure();
@@ -148,6 +98,16 @@ public class CheckstyleScannerPlugin extends AbstractScannerPlugin<FileResource,
             checkstyleDirName = System.getProperty(JQASSISTANT_PLUGIN_CHECKSTYLE_DIRNAME);
         }
         LOGGER.info(String.format("Checkstyle plugin looks for files named %s or for all XML files in directories named '%s'", checkstyleFileName, checkstyleDirName));
+        final String bulkImportProperty = (String) getProperties().get(JQASSISTANT_PLUGIN_CHECKSTYLE_BULKIMPORT);
+        if(bulkImportProperty != null) {
+            bulkImport = Boolean.valueOf(bulkImportProperty);
+        }
+        if(System.getProperty(JQASSISTANT_PLUGIN_CHECKSTYLE_BULKIMPORT) != null) {
+            bulkImport = Boolean.valueOf(System.getProperty(JQASSISTANT_PLUGIN_CHECKSTYLE_BULKIMPORT));
+        }
+        if(bulkImport) {
+            LOGGER.info("Checkstyle plugin writes the errors in bulk");
+        }
 
     }
 }
@@ -0,0 +1,62 @@
+package de.kontext_e.jqassistant.plugin.checkstyle.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleErrorDescriptor;
+import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleFileDescriptor;
+import de.kontext_e.jqassistant.plugin.checkstyle.store.descriptor.CheckstyleReportDescriptor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CheckstyleReportReaderTest {
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<checkstyle version=\"6.18\">" +
+            "<file name=\"Example.java\">" +
+            "<error line=\"3\" severity=\"warning\" message=\"Missing a Javadoc comment.\" source=\"com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocTypeCheck\"/>" +
+            "<error line=\"7\" column=\"5\" severity=\"error\" message=\"&apos;5&apos; is a magic number.\" source=\"com.puppycrawl.tools.checkstyle.checks.coding.MagicNumberCheck\"/>" +
+            "</file>" +
+            "<file name=\"Broken.java\">" +
+            "<exception><![CDATA[java.lang.Exception: <error line=\"1\"/>]]></exception>" +
+            "</file>" +
+            "</checkstyle>";
+
+    private final Store mockStore = mock(Store.class);
+    private final CheckstyleReportDescriptor mockReport = mock(CheckstyleReportDescriptor.class);
+    private final CheckstyleFileDescriptor mockFile = mock(CheckstyleFileDescriptor.class);
+    private final CheckstyleErrorDescriptor mockError = mock(CheckstyleErrorDescriptor.class);
+
+    @Before
+    public void setUp() {
+        when(mockStore.create(CheckstyleFileDescriptor.class)).thenReturn(mockFile);
+        when(mockStore.create(CheckstyleErrorDescriptor.class)).thenReturn(mockError);
+        when(mockReport.getFiles()).thenReturn(new HashSet<>());
+        when(mockFile.getErrors()).thenReturn(new HashSet<>());
+    }
+
+    @Test
+    public void thatFilesAndTheirErrorsAreRead() throws IOException {
+        CheckstyleReportReader reader = new CheckstyleReportReader(mockStore, new CheckstyleScannerPlugin(), false);
+
+        reader.read(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), mockReport);
+
+        verify(mockStore, times(2)).create(CheckstyleFileDescriptor.class);
+        verify(mockFile).setName("Example.java");
+        verify(mockFile).setName("Broken.java");
+        verify(mockStore, times(2)).create(CheckstyleErrorDescriptor.class);
+        verify(mockError).setLine("3");
+        verify(mockError).setColumn(null);
+        verify(mockError).setColumn("5");
+        verify(mockError).setSeverity("error");
+        verify(mockError).setMessage("'5' is a magic number.");
+        verify(mockError).setSource("com.puppycrawl.tools.checkstyle.checks.coding.MagicNumberCheck");
+    }
+}
@@ -1,294 +0,0 @@
-
-package de.kontext_e.jqassistant.plugin.findbugs.jaxb;
-
-import java.util.ArrayList;
-import java.util.List;
-import javax.xml.bind.annotation.XmlAccessType;
-import javax.xml.bind.annotation.XmlAccessorType;
-import javax.xml.bind.annotation.XmlAttribute;
-import javax.xml.bind.annotation.XmlElement;
-import javax.xml.bind.annotation.XmlType;
-
-
-/**
- * <p&gt;Java class for BugInstanceType complex type.
- * 
- * <p&gt;The following schema fragment specifies the expected content contained within this class.
- * 
- * <pre&gt;
- * &lt;complexType name="BugInstanceType"&gt;
- *   &lt;complexContent&gt;
- *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
- *       &lt;sequence&gt;
- *         &lt;element name="Class" type="{}ClassType"/&gt;
- *         &lt;element name="Field" type="{}FieldType" maxOccurs="unbounded" minOccurs="0"/&gt;
- *         &lt;element name="Method" type="{}MethodType" maxOccurs="unbounded" minOccurs="0"/&gt;
- *         &lt;element name="SourceLine" type="{}SourceLineType" minOccurs="0"/&gt;
- *       &lt;/sequence&gt;
- *       &lt;attribute name="type" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="priority" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="rank" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="abbrev" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="category" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *     &lt;/restriction&gt;
- *   &lt;/complexContent&gt;
- * &lt;/complexType&gt;
- * </pre&gt;
- * 
- * 
- */
-@XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "BugInstanceType", propOrder = {
-    "clazz",
-    "field",
-    "method",
-    "sourceLine"
-})
-public class BugInstanceType {
-
-    @XmlElement(name = "Class", required = true)
-    protected ClassType clazz;
-    @XmlElement(name = "Field")
-    protected List<FieldType> field;
-    @XmlElement(name = "Method")
-    protected List<MethodType> method;
-    @XmlElement(name = "SourceLine")
-    protected SourceLineType sourceLine;
-    @XmlAttribute(name = "type")
-    protected String type;
-    @XmlAttribute(name = "priority")
-    protected String priority;
-    @XmlAttribute(name = "rank")
-    protected String rank;
-    @XmlAttribute(name = "abbrev")
-    protected String abbrev;
-    @XmlAttribute(name = "category")
-    protected String category;
-
-    /**
-     * Gets the value of the clazz property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link ClassType }
-     *     
-     */
-    public ClassType getClazz() {
-        return clazz;
-    }
-
-    /**
-     * Sets the value of the clazz property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link ClassType }
-     *     
-     */
-    public void setClazz(ClassType value) {
-        this.clazz = value;
-    }
-
-    /**
-     * Gets the value of the field property.
-     * 
-     * <p&gt;
-     * This accessor method returns a reference to the live list,
-     * not a snapshot. Therefore any modification you make to the
-     * returned list will be present inside the JAXB object.
-     * This is why there is not a <CODE&gt;set</CODE&gt; method for the field property.
-     * 
-     * <p&gt;
-     * For example, to add a new item, do as follows:
-     * <pre&gt;
-     *    getField().add(newItem);
-     * </pre&gt;
-     * 
-     * 
-     * <p&gt;
-     * Objects of the following type(s) are allowed in the list
-     * {@link FieldType }
-     * 
-     * 
-     */
-    public List<FieldType> getField() {
-        if (field == null) {
-            field = new ArrayList<FieldType>();
-        }
-        return this.field;
-    }
-
-    /**
-     * Gets the value of the method property.
-     * 
-     * <p&gt;
-     * This accessor method returns a reference to the live list,
-     * not a snapshot. Therefore any modification you make to the
-     * returned list will be present inside the JAXB object.
-     * This is why there is not a <CODE&gt;set</CODE&gt; method for the method property.
-     * 
-     * <p&gt;
-     * For example, to add a new item, do as follows:
-     * <pre&gt;
-     *    getMethod().add(newItem);
-     * </pre&gt;
-     * 
-     * 
-     * <p&gt;
-     * Objects of the following type(s) are allowed in the list
-     * {@link MethodType }
-     * 
-     * 
-     */
-    public List<MethodType> getMethod() {
-        if (method == null) {
-            method = new ArrayList<MethodType>();
-        }
-        return this.method;
-    }
-
-    /**
-     * Gets the value of the sourceLine property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link SourceLineType }
-     *     
-     */
-    public SourceLineType getSourceLine() {
-        return sourceLine;
-    }
-
-    /**
-     * Sets the value of the sourceLine property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link SourceLineType }
-     *     
-     */
-    public void setSourceLine(SourceLineType value) {
-        this.sourceLine = value;
-    }
-
-    /**
-     * Gets the value of the type property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getType() {
-        return type;
-    }
-
-    /**
-     * Sets the value of the type property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setType(String value) {
-        this.type = value;
-    }
-
-    /**
-     * Gets the value of the priority property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getPriority() {
-        return priority;
-    }
-
-    /**
-     * Sets the value of the priority property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setPriority(String value) {
-        this.priority = value;
-    }
-
-    /**
-     * Gets the value of the rank property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getRank() {
-        return rank;
-    }
-
-    /**
-     * Sets the value of the rank property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setRank(String value) {
-        this.rank = value;
-    }
-
-    /**
-     * Gets the value of the abbrev property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getAbbrev() {
-        return abbrev;
-    }
-
-    /**
-     * Sets the value of the abbrev property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setAbbrev(String value) {
-        this.abbrev = value;
-    }
-
-    /**
-     * Gets the value of the category property.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getCategory() {
-        return category;
-    }
-
-    /**
-     * Sets the value of the category property.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setCategory(String value) {
-        this.category = value;
-    }
-
-}
@@ -0,0 +1,153 @@
+package de.kontext_e.jqassistant.plugin.findbugs.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceClassDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceFieldDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceMethodDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsReportDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsSourceLineDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.XmlReportReader;
+
+import static de.kontext_e.jqassistant.plugin.xmlreport.XmlReportReader.nextChild;
+import static de.kontext_e.jqassistant.plugin.xmlreport.XmlReportReader.skipElement;
+
+/**
+ * Streams a FindBugs or SpotBugs XML report into the store.
+ *
+ * Only the bug instances with their classes, methods, fields and source lines are read; the descriptors of a bug
+ * instance are created while it is read, so memory does not grow with the size of the report. The project, the
+ * errors, the summary with its class and package statistics, the profiles and the history are skipped, as are the
+ * messages, types, properties and local variables of the bug instances.
+ *
+ * Like the former JAXB model, a bug instance keeps the last of its classes and source lines and a method or a field
+ * the last of its source lines.
+ */
+class FindBugsReportReader {
+
+    private final Store store;
+
+    FindBugsReportReader(final Store store) {
+        this.store = store;
+    }
+
+    void read(final InputStream inputStream, final FindBugsReportDescriptor findBugsReportDescriptor) throws IOException {
+        new XmlReportReader()
+                .on("BugCollection", reader -> {
+                    findBugsReportDescriptor.setVersion(reader.getAttributeValue(null, "version"));
+                    findBugsReportDescriptor.setSequence(reader.getAttributeValue(null, "sequence"));
+                    findBugsReportDescriptor.setAnalysisTimestamp(reader.getAttributeValue(null, "analysisTimestamp"));
+                })
+                .on("BugInstance", reader -> findBugsReportDescriptor.getContains().add(readBugInstance(reader)))
+                .skip("Project", "Errors", "FindBugsSummary", "ClassFeatures", "History", "BugCategory", "BugPattern", "BugCode")
+                .read(inputStream, "FindBugs");
+    }
+
+    /*
+     * Reads the bug instance up to its end.
+     */
+    private FindBugsBugInstanceDescriptor readBugInstance(final XMLStreamReader reader) throws XMLStreamException {
+        FindBugsBugInstanceDescriptor findBugsBugInstanceDescriptor = store.create(FindBugsBugInstanceDescriptor.class);
+        findBugsBugInstanceDescriptor.setType(reader.getAttributeValue(null, "type"));
+        findBugsBugInstanceDescriptor.setPriority(reader.getAttributeValue(null, "priority"));
+        findBugsBugInstanceDescriptor.setAbbrev(reader.getAttributeValue(null, "abbrev"));
+        findBugsBugInstanceDescriptor.setCategory(reader.getAttributeValue(null, "category"));
+
+        boolean hasClass = false;
+        SourceLine classSourceLine = null;
+        SourceLine sourceLine = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "Class":
+                    hasClass = true;
+                    classSourceLine = readLastSourceLine(reader);
+                    break;
+                case "Method":
+                    final FindBugsBugInstanceMethodDescriptor findBugsBugInstanceMethodDescriptor = store.create(FindBugsBugInstanceMethodDescriptor.class);
+                    findBugsBugInstanceMethodDescriptor.setFullQualifiedName(reader.getAttributeValue(null, "classname"));
+                    findBugsBugInstanceMethodDescriptor.setName(reader.getAttributeValue(null, "name"));
+                    findBugsBugInstanceMethodDescriptor.setSignature(reader.getAttributeValue(null, "signature"));
+                    findBugsBugInstanceMethodDescriptor.setIsStatic(Boolean.valueOf(reader.getAttributeValue(null, "isStatic")));
+                    findBugsBugInstanceMethodDescriptor.setSourceLineDescriptor(createSourceLineDescriptor(readLastSourceLine(reader)));
+                    findBugsBugInstanceDescriptor.getBugInstanceMethods().add(findBugsBugInstanceMethodDescriptor);
+                    break;
+                case "Field":
+                    final FindBugsBugInstanceFieldDescriptor findBugsBugInstanceFieldDescriptor = store.create(FindBugsBugInstanceFieldDescriptor.class);
+                    findBugsBugInstanceFieldDescriptor.setFullQualifiedName(reader.getAttributeValue(null, "classname"));
+                    findBugsBugInstanceFieldDescriptor.setName(reader.getAttributeValue(null, "name"));
+                    findBugsBugInstanceFieldDescriptor.setSignature(reader.getAttributeValue(null, "signature"));
+                    findBugsBugInstanceFieldDescriptor.setIsStatic(Boolean.valueOf(reader.getAttributeValue(null, "isStatic")));
+                    findBugsBugInstanceFieldDescriptor.setSourceLineDescriptor(createSourceLineDescriptor(readLastSourceLine(reader)));
+                    findBugsBugInstanceDescriptor.getBugInstanceFields().add(findBugsBugInstanceFieldDescriptor);
+                    break;
+                case "SourceLine":
+                    sourceLine = new SourceLine(reader);
+                    skipElement(reader);
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+
+        if (hasClass) {
+            final FindBugsBugInstanceClassDescriptor findBugsBugInstanceClassDescriptor = store.create(FindBugsBugInstanceClassDescriptor.class);
+            findBugsBugInstanceClassDescriptor.setSourceLineDescriptor(createSourceLineDescriptor(classSourceLine));
+            findBugsBugInstanceDescriptor.setBugInstanceClass(findBugsBugInstanceClassDescriptor);
+        }
+        if (null != sourceLine) {
+            findBugsBugInstanceDescriptor.setSourceLineDescriptor(createSourceLineDescriptor(sourceLine));
+        }
+        return findBugsBugInstanceDescriptor;
+    }
+
+    /*
+     * Reads the current Class, Method or Field element up to its end.
+     */
+    private static SourceLine readLastSourceLine(final XMLStreamReader reader) throws XMLStreamException {
+        SourceLine sourceLine = null;
+        while (nextChild(reader)) {
+            if ("SourceLine".equals(reader.getLocalName())) {
+                sourceLine = new SourceLine(reader);
+            }
+            skipElement(reader);
+        }
+        return sourceLine;
+    }
+
+    private FindBugsSourceLineDescriptor createSourceLineDescriptor(final SourceLine sourceLine) {
+        final FindBugsSourceLineDescriptor sourceLineDescriptor = store.create(FindBugsSourceLineDescriptor.class);
+        if (sourceLine != null) {
+            sourceLineDescriptor.setClassname(sourceLine.classname);
+            sourceLineDescriptor.setStart(sourceLine.start);
+            sourceLineDescriptor.setEnd(sourceLine.end);
+            sourceLineDescriptor.setSourcefile(sourceLine.sourcefile);
+            sourceLineDescriptor.setSourcepath(sourceLine.sourcepath);
+        }
+        return sourceLineDescriptor;
+    }
+
+    /*
+     * The attributes of a SourceLine element, until it is known whether the element is the last one.
+     */
+    private static class SourceLine {
+        private final String classname;
+        private final String start;
+        private final String end;
+        private final String sourcefile;
+        private final String sourcepath;
+
+        SourceLine(final XMLStreamReader reader) {
+            classname = reader.getAttributeValue(null, "classname");
+            start = reader.getAttributeValue(null, "start");
+            end = reader.getAttributeValue(null, "end");
+            sourcefile = reader.getAttributeValue(null, "sourcefile");
+            sourcepath = reader.getAttributeValue(null, "sourcepath");
+        }
+    }
+}
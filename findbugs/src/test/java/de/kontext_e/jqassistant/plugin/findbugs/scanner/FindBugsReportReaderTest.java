@@ -0,0 +1,95 @@
+package de.kontext_e.jqassistant.plugin.findbugs.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceClassDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceFieldDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsBugInstanceMethodDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsReportDescriptor;
+import de.kontext_e.jqassistant.plugin.findbugs.store.descriptor.FindBugsSourceLineDescriptor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FindBugsReportReaderTest {
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<BugCollection version=\"3.0.1\" sequence=\"0\" timestamp=\"1500000000000\" analysisTimestamp=\"1500000001000\" release=\"\">" +
+            "<Project projectName=\"example\"><Jar>/example/classes</Jar></Project>" +
+            "<BugInstance type=\"URF_UNREAD_FIELD\" priority=\"2\" rank=\"18\" abbrev=\"UrF\" category=\"PERFORMANCE\">" +
+            "<ShortMessage>Unread field</ShortMessage>" +
+            "<Class classname=\"org.example.Example\" primary=\"true\">" +
+            "<SourceLine classname=\"org.example.Example\" start=\"3\" end=\"20\" sourcefile=\"Example.java\" sourcepath=\"org/example/Example.java\"/>" +
+            "</Class>" +
+            "<Field classname=\"org.example.Example\" name=\"unread\" signature=\"I\" isStatic=\"true\" primary=\"true\">" +
+            "<SourceLine classname=\"org.example.Example\" sourcefile=\"Example.java\" sourcepath=\"org/example/Example.java\"/>" +
+            "</Field>" +
+            "<Method classname=\"org.example.Example\" name=\"run\" signature=\"()V\" isStatic=\"false\">" +
+            "<SourceLine classname=\"org.example.Example\" start=\"7\" end=\"9\" sourcefile=\"Example.java\" sourcepath=\"org/example/Example.java\"/>" +
+            "</Method>" +
+            "<Type descriptor=\"Ljava/util/List;\" role=\"TYPE_FOUND\">" +
+            "<SourceLine classname=\"java.util.List\" start=\"1\" end=\"2\" sourcefile=\"List.java\" sourcepath=\"java/util/List.java\"/>" +
+            "</Type>" +
+            "<SourceLine classname=\"org.example.Example\" start=\"8\" end=\"8\" sourcefile=\"Example.java\" sourcepath=\"org/example/Example.java\">" +
+            "<Message>At Example.java:[line 8]</Message>" +
+            "</SourceLine>" +
+            "</BugInstance>" +
+            "<Errors errors=\"0\" missingClasses=\"0\"/>" +
+            "<FindBugsSummary total_classes=\"1\" total_bugs=\"1\">" +
+            "<PackageStats package=\"org.example\"><ClassStats class=\"org.example.Example\" bugs=\"1\"/></PackageStats>" +
+            "<FindBugsProfile><ClassProfile name=\"Detector\" totalMilliseconds=\"1\"/></FindBugsProfile>" +
+            "</FindBugsSummary>" +
+            "<ClassFeatures></ClassFeatures>" +
+            "<History></History>" +
+            "</BugCollection>";
+
+    private final Store mockStore = mock(Store.class);
+    private final FindBugsReportDescriptor mockReport = mock(FindBugsReportDescriptor.class);
+    private final FindBugsBugInstanceDescriptor mockBugInstance = mock(FindBugsBugInstanceDescriptor.class);
+    private final FindBugsBugInstanceClassDescriptor mockClass = mock(FindBugsBugInstanceClassDescriptor.class);
+    private final FindBugsBugInstanceMethodDescriptor mockMethod = mock(FindBugsBugInstanceMethodDescriptor.class);
+    private final FindBugsBugInstanceFieldDescriptor mockField = mock(FindBugsBugInstanceFieldDescriptor.class);
+    private final FindBugsSourceLineDescriptor mockSourceLine = mock(FindBugsSourceLineDescriptor.class);
+
+    @Before
+    public void setUp() {
+        when(mockStore.create(FindBugsBugInstanceDescriptor.class)).thenReturn(mockBugInstance);
+        when(mockStore.create(FindBugsBugInstanceClassDescriptor.class)).thenReturn(mockClass);
+        when(mockStore.create(FindBugsBugInstanceMethodDescriptor.class)).thenReturn(mockMethod);
+        when(mockStore.create(FindBugsBugInstanceFieldDescriptor.class)).thenReturn(mockField);
+        when(mockStore.create(FindBugsSourceLineDescriptor.class)).thenReturn(mockSourceLine);
+        when(mockReport.getContains()).thenReturn(new ArrayList<>());
+        when(mockBugInstance.getBugInstanceMethods()).thenReturn(new ArrayList<>());
+        when(mockBugInstance.getBugInstanceFields()).thenReturn(new ArrayList<>());
+    }
+
+    @Test
+    public void thatBugInstancesAreReadAndTheRestIsSkipped() throws IOException {
+        FindBugsReportReader reader = new FindBugsReportReader(mockStore);
+
+        reader.read(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), mockReport);
+
+        verify(mockReport).setVersion("3.0.1");
+        verify(mockReport).setAnalysisTimestamp("1500000001000");
+        verify(mockStore).create(FindBugsBugInstanceDescriptor.class);
+        verify(mockBugInstance).setType("URF_UNREAD_FIELD");
+        verify(mockBugInstance).setCategory("PERFORMANCE");
+        verify(mockBugInstance).setBugInstanceClass(mockClass);
+        verify(mockField).setIsStatic(true);
+        verify(mockMethod).setName("run");
+        // of the class, the field, the method and the bug instance, but not of the type
+        verify(mockStore, times(4)).create(FindBugsSourceLineDescriptor.class);
+        verify(mockSourceLine).setStart("8");
+        verify(mockSourceLine, never()).setClassname("java.util.List");
+        verify(mockBugInstance).setSourceLineDescriptor(mockSourceLine);
+    }
+}
@@ -0,0 +1,114 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitRepositoryDescriptor;
+
+/**
+ * Measures the import of a {@link SyntheticRepository}: reading the history and the tags with the {@link JGitScanner}
+ * and the whole {@link GitRepositoryScanner#scanGitRepo()} against an {@link InMemoryStore}.
+ *
+ * Besides the scans per second JMH reports the imported commits per second ('commits'); {@link #main(String[])}
+ * adds the allocation rate of the GC profiler ('gc.alloc.rate', 'gc.alloc.rate.norm' per scan).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class GitScannerBenchmark {
+
+    @Param("10000")
+    private int commits;
+
+    @Param("3")
+    private int filesPerCommit;
+
+    @Param("50")
+    private int renameEvery;
+
+    @Param("100")
+    private int mergeEvery;
+
+    @Param("100")
+    private int tagEvery;
+
+    private File gitDirectory;
+
+    /**
+     * The commits imported per second, next to the scans per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long commits;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            commits = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SyntheticRepository repository = new SyntheticRepository(commits, filesPerCommit, renameEvery, mergeEvery, tagEvery, 4711);
+        gitDirectory = repository.create(new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    @Benchmark
+    public Object findCommits(final Counters counters) throws IOException {
+        try (JGitScanner jGitScanner = new JGitScanner(gitDirectory.getAbsolutePath(), new GitScannerConfiguration())) {
+            List<GitCommit> gitCommits = jGitScanner.findCommits();
+            counters.commits += gitCommits.size();
+            return gitCommits;
+        }
+    }
+
+    @Benchmark
+    public Object findTags() throws IOException {
+        try (JGitScanner jGitScanner = new JGitScanner(gitDirectory.getAbsolutePath(), new GitScannerConfiguration())) {
+            return jGitScanner.findTags();
+        }
+    }
+
+    @Benchmark
+    public Object scanGitRepo(final Counters counters) throws IOException {
+        InMemoryStore store = new InMemoryStore();
+        GitRepositoryDescriptor gitRepositoryDescriptor = store.create(GitRepositoryDescriptor.class);
+        gitRepositoryDescriptor.setFileName(gitDirectory.getAbsolutePath());
+        new GitRepositoryScanner(store.getStore(), gitRepositoryDescriptor, new GitScannerConfiguration()).scanGitRepo();
+        counters.commits += gitRepositoryDescriptor.getCommits().size();
+        return store;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GitScannerBenchmark.class.getSimpleName())
+                .param("commits", System.getProperty("commits", "10000"))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,153 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the history walk of the {@link JGitScanner}, which takes the parents and trees the walk has already
+ * parsed, with looking every parent up again by its id, on a {@link SyntheticRepository}.
+ *
+ * The diff benchmarks compare diffing the trees with reused tree parsers to letting the {@link DiffFormatter}
+ * parse them into new ones. {@link #scanHistory()} is the complete walk with diffs, as the scanner runs it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HistoryWalkBenchmark {
+
+    @Param("50000")
+    private int commits;
+
+    private File gitDirectory;
+    private Repository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        gitDirectory = new SyntheticRepository(commits, 4711).create(new File(System.getProperty("java.io.tmpdir")));
+        repository = new FileRepositoryBuilder().setGitDir(gitDirectory).setBare().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    public void walkReparsingParents(final Blackhole blackhole) throws IOException {
+        try (RevWalk revWalk = startWalk()) {
+            for (RevCommit commit : revWalk) {
+                for (int i = 0; i < commit.getParentCount(); i++) {
+                    RevCommit parent = revWalk.parseCommit(commit.getParent(i).getId());
+                    blackhole.consume(parent.getTree().getId());
+                    blackhole.consume(ObjectId.toString(parent.getId()));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void walkReusingParents(final Blackhole blackhole) throws IOException {
+        try (RevWalk revWalk = startWalk()) {
+            for (RevCommit commit : revWalk) {
+                for (int i = 0; i < commit.getParentCount(); i++) {
+                    RevCommit parent = commit.getParent(i);
+                    revWalk.parseHeaders(parent);
+                    blackhole.consume(parent.getTree());
+                    blackhole.consume(parent.name());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void diffWithNewTreeParsers(final Blackhole blackhole) throws IOException {
+        try (RevWalk revWalk = startWalk();
+             DiffFormatter diffFormatter = newDiffFormatter(revWalk.getObjectReader())) {
+            for (RevCommit commit : revWalk) {
+                for (RevCommit parent : commit.getParents()) {
+                    blackhole.consume(diffFormatter.scan(parent.getTree(), commit.getTree()));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void diffWithReusedTreeParsers(final Blackhole blackhole) throws IOException {
+        CanonicalTreeParser parentTreeParser = new CanonicalTreeParser();
+        CanonicalTreeParser treeParser = new CanonicalTreeParser();
+        try (RevWalk revWalk = startWalk();
+             DiffFormatter diffFormatter = newDiffFormatter(revWalk.getObjectReader())) {
+            for (RevCommit commit : revWalk) {
+                for (RevCommit parent : commit.getParents()) {
+                    parentTreeParser.reset(revWalk.getObjectReader(), parent.getTree());
+                    treeParser.reset(revWalk.getObjectReader(), commit.getTree());
+                    List<DiffEntry> diffs = diffFormatter.scan(parentTreeParser, treeParser);
+                    blackhole.consume(diffs);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void scanHistory(final Blackhole blackhole) throws IOException {
+        try (JGitScanner jGitScanner = new JGitScanner(gitDirectory.getAbsolutePath(), new GitScannerConfiguration())) {
+            jGitScanner.walkCommits(Collections.emptyList(), blackhole::consume);
+        }
+    }
+
+    private RevWalk startWalk() throws IOException {
+        RevWalk revWalk = new RevWalk(repository);
+        revWalk.markStart(revWalk.parseCommit(repository.resolve(Constants.HEAD)));
+        return revWalk;
+    }
+
+    private DiffFormatter newDiffFormatter(final ObjectReader reader) {
+        DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE);
+        diffFormatter.setReader(reader, repository.getConfig());
+        diffFormatter.setDetectRenames(false);
+        return diffFormatter;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HistoryWalkBenchmark.class.getSimpleName())
+                .param("commits", System.getProperty("commits", "50000"))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,237 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+import com.buschmais.xo.api.Query;
+import com.buschmais.xo.api.ResultIterator;
+
+/**
+ * A {@link Store} keeping the descriptors in plain maps, so benchmarks measure the scanner instead of the database.
+ *
+ * Descriptors are dynamic proxies of their interfaces: getters return what the setters were given, list getters
+ * return a list that lives as long as the descriptor. Queries return nothing, except the lookup of a node by its id
+ * the scanner uses to get descriptors of former batches back. There are no transactions and nothing is indexed,
+ * so {@link Store#find(Class, String)} never finds anything.
+ */
+class InMemoryStore implements InvocationHandler {
+
+    private final Map<Long, Descriptor> nodes = new HashMap<>();
+    private long relations;
+    private long nextId;
+
+    private final Store store = (Store) Proxy.newProxyInstance(Store.class.getClassLoader(), new Class<?>[] {Store.class}, this);
+
+    Store getStore() {
+        return store;
+    }
+
+    int getNodeCount() {
+        return nodes.size();
+    }
+
+    long getRelationCount() {
+        return relations;
+    }
+
+    <D extends Descriptor> D create(final Class<D> type) {
+        long id = nextId++;
+        D descriptor = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, new DescriptorHandler(id)));
+        nodes.put(id, descriptor);
+        return descriptor;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        switch (method.getName()) {
+            case "create":
+                if (args.length >= 3) {
+                    relations++;
+                    return createDescriptor((Class<?>) args[1]);
+                }
+                return createDescriptor((Class<?>) args[0]);
+            case "executeQuery":
+                return executeQuery(args);
+            case "hasActiveTransaction":
+                return Boolean.TRUE;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "InMemoryStore{nodes=" + nodes.size() + ", relations=" + relations + '}';
+            default:
+                // transactions, find, delete and the rest
+                return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object createDescriptor(final Class<?> type) {
+        return create((Class<? extends Descriptor>) type);
+    }
+
+    private Query.Result<Query.Result.CompositeRowObject> executeQuery(final Object[] args) {
+        if (args.length == 2 && args[0] instanceof String && args[1] instanceof Map) {
+            String query = (String) args[0];
+            Object id = ((Map<?, ?>) args[1]).get("id");
+            if (query.contains("RETURN node") && id instanceof Number) {
+                Descriptor node = nodes.get(((Number) id).longValue());
+                if (null != node) {
+                    return new Rows(Collections.singletonList(new Row(Collections.singletonMap("node", node))));
+                }
+            }
+        }
+        return new Rows(Collections.emptyList());
+    }
+
+    /*
+     * Properties and relations of a descriptor; every getter without a setter call returns null, an empty list or
+     * the default of its primitive type.
+     */
+    private static class DescriptorHandler implements InvocationHandler {
+        private final Long id;
+        private final Map<String, Object> properties = new HashMap<>();
+
+        DescriptorHandler(final Long id) {
+            this.id = id;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            String name = method.getName();
+            int argCount = null == args ? 0 : args.length;
+            switch (name) {
+                case "getId":
+                    return id;
+                case "as":
+                    return proxy;
+                case "getDelegate":
+                    return this;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return id.hashCode();
+                case "toString":
+                    return method.getDeclaringClass().getSimpleName() + properties;
+                default:
+                    break;
+            }
+            if (name.startsWith("set") && argCount == 1) {
+                properties.put(name.substring(3), args[0]);
+                return null;
+            }
+            String property = name.startsWith("is") ? name.substring(2) : name.substring(Math.min(3, name.length()));
+            Object value = properties.get(property);
+            if (null == value && List.class.isAssignableFrom(method.getReturnType())) {
+                value = new ArrayList<>();
+                properties.put(property, value);
+            }
+            if (null == value && method.getReturnType().isPrimitive()) {
+                return defaultValue(method.getReturnType());
+            }
+            return value;
+        }
+
+        private static Object defaultValue(final Class<?> type) {
+            if (type == boolean.class) {
+                return Boolean.FALSE;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            return null;
+        }
+    }
+
+    private static class Row implements Query.Result.CompositeRowObject {
+        private final Map<String, Object> columns;
+
+        Row(final Map<String, Object> columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return new ArrayList<>(columns.keySet());
+        }
+
+        @Override
+        public <C> C get(final String column, final Class<C> type) {
+            return type.cast(columns.get(column));
+        }
+
+        @Override
+        public <I> I getId() {
+            return null;
+        }
+
+        @Override
+        public <T> T as(final Class<T> type) {
+            return type.cast(this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <D> D getDelegate() {
+            return (D) columns;
+        }
+    }
+
+    private static class Rows implements Query.Result<Query.Result.CompositeRowObject> {
+        private final List<Query.Result.CompositeRowObject> rows;
+
+        Rows(final List<Query.Result.CompositeRowObject> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Query.Result.CompositeRowObject getSingleResult() {
+            if (rows.size() != 1) {
+                throw new IllegalStateException("Expected exactly one row, got " + rows.size());
+            }
+            return rows.get(0);
+        }
+
+        @Override
+        public boolean hasResult() {
+            return !rows.isEmpty();
+        }
+
+        @Override
+        public ResultIterator<Query.Result.CompositeRowObject> iterator() {
+            Iterator<Query.Result.CompositeRowObject> iterator = rows.iterator();
+            return new ResultIterator<Query.Result.CompositeRowObject>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Query.Result.CompositeRowObject next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
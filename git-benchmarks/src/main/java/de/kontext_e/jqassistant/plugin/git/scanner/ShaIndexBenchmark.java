@@ -0,0 +1,142 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link ShaIndex} with the String keyed map it replaced, for the number of commits of a large history.
+ *
+ * Lookups are measured by JMH, the retained heap of both structures is printed by {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShaIndexBenchmark {
+
+    @Param("1000000")
+    private int commits;
+
+    private String[] shas;
+    // equal but not the same strings as the keys, like the parent shas of later commits
+    private String[] lookupShas;
+    private Map<String, Object> map;
+    private ShaIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        shas = randomShas(commits);
+        lookupShas = new String[commits];
+        for (int i = 0; i < commits; i++) {
+            lookupShas[i] = new String(shas[i].toCharArray());
+        }
+        map = buildMap(shas);
+        index = buildIndex(shas);
+    }
+
+    @Benchmark
+    public Object lookupMap() {
+        return map.get(nextSha());
+    }
+
+    @Benchmark
+    public long lookupIndex() {
+        return index.get(nextSha());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object buildMap() {
+        return buildMap(shas);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object buildIndex() {
+        return buildIndex(shas);
+    }
+
+    private String nextSha() {
+        next = (next + 1) % lookupShas.length;
+        return lookupShas[next];
+    }
+
+    private static String[] randomShas(final int count) {
+        Random random = new Random(4711);
+        String[] shas = new String[count];
+        for (int i = 0; i < count; i++) {
+            shas[i] = String.format("%016x%016x%08x", random.nextLong(), random.nextLong(), random.nextInt());
+        }
+        return shas;
+    }
+
+    private static Map<String, Object> buildMap(final String[] shas) {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < shas.length; i++) {
+            // fresh keys, like the shas of the commits coming out of the walk
+            map.put(new String(shas[i].toCharArray()), (long) i);
+        }
+        return map;
+    }
+
+    private static ShaIndex buildIndex(final String[] shas) {
+        ShaIndex index = new ShaIndex();
+        for (int i = 0; i < shas.length; i++) {
+            index.put(shas[i], i);
+        }
+        return index;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int commits = Integer.getInteger("commits", 1000000);
+        String[] shas = randomShas(commits);
+
+        long before = usedHeap();
+        Map<String, Object> map = buildMap(shas);
+        long mapSize = usedHeap() - before;
+        System.out.printf("HashMap<String, Object>: %d bytes per commit%n", mapSize / map.size());
+        map = null;
+
+        before = usedHeap();
+        ShaIndex index = buildIndex(shas);
+        long indexSize = usedHeap() - before;
+        System.out.printf("ShaIndex: %d bytes per commit%n", indexSize / index.size());
+
+        Options options = new OptionsBuilder()
+                .include(ShaIndexBenchmark.class.getSimpleName())
+                .param("commits", String.valueOf(commits))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,260 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.TagBuilder;
+import org.eclipse.jgit.lib.TreeFormatter;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+
+/**
+ * Builds a bare repository with a deterministic, synthetic history for benchmarks.
+ *
+ * The objects are written directly, without a working tree: every commit modifies some files, now and then a file
+ * is added, deleted or renamed, side branches are merged and commits are tagged. Finally the repository is packed,
+ * like a cloned one. The same shape and seed always give the same shas, so an existing repository is reused.
+ */
+class SyntheticRepository {
+    private static final int DIRECTORIES = 50;
+    private static final int INITIAL_FILES = 2000;
+    private static final int LINES = 30;
+    private static final int AUTHORS = 20;
+    private static final long START_TIME = 1483228800L; // 2017-01-01
+
+    private final int commits;
+    private final int filesPerCommit;
+    private final int renameEvery;
+    private final int mergeEvery;
+    private final int tagEvery;
+    private final long seed;
+
+    private Random random;
+    private ObjectInserter inserter;
+    // directory -> file name -> blob
+    private final Map<String, Map<String, ObjectId>> files = new TreeMap<>();
+    private final Map<String, ObjectId> directoryTrees = new TreeMap<>();
+    private final Map<String, ObjectId> tags = new TreeMap<>();
+    private int nextFile;
+
+    /**
+     * @param filesPerCommit Number of files every commit modifies.
+     * @param renameEvery Every n-th commit renames a file, 0 for none.
+     * @param mergeEvery Every n-th commit merges a side branch, 0 for none.
+     * @param tagEvery Every n-th commit is tagged, alternately annotated and lightweight, 0 for none.
+     */
+    SyntheticRepository(final int commits, final int filesPerCommit, final int renameEvery, final int mergeEvery, final int tagEvery, final long seed) {
+        this.commits = commits;
+        this.filesPerCommit = filesPerCommit;
+        this.renameEvery = renameEvery;
+        this.mergeEvery = mergeEvery;
+        this.tagEvery = tagEvery;
+        this.seed = seed;
+    }
+
+    SyntheticRepository(final int commits, final long seed) {
+        this(commits, 3, 0, 100, 0, seed);
+    }
+
+    /**
+     * @return The git directory of the repository, below the given directory.
+     */
+    File create(final File directory) throws IOException {
+        File gitDirectory = new File(directory, String.format("synthetic-%d-%d-%d-%d-%d-%d.git",
+                                                              commits, filesPerCommit, renameEvery, mergeEvery, tagEvery, seed));
+        if (new File(gitDirectory, "packed-refs").exists()) {
+            return gitDirectory;
+        }
+        try (Repository repository = new FileRepositoryBuilder().setGitDir(gitDirectory).setBare().build()) {
+            repository.create(true);
+            ObjectId head;
+            try (ObjectInserter objectInserter = repository.newObjectInserter()) {
+                random = new Random(seed);
+                inserter = objectInserter;
+                head = writeHistory();
+                inserter.flush();
+            }
+            updateRef(repository, Constants.R_HEADS + "master", head);
+            for (Map.Entry<String, ObjectId> tag : tags.entrySet()) {
+                updateRef(repository, Constants.R_TAGS + tag.getKey(), tag.getValue());
+            }
+            Git.wrap(repository).gc().call();
+        } catch (GitAPIException e) {
+            throw new IOException("Could not pack " + gitDirectory, e);
+        }
+        return gitDirectory;
+    }
+
+    private static void updateRef(final Repository repository, final String name, final ObjectId objectId) throws IOException {
+        RefUpdate update = repository.updateRef(name);
+        update.setNewObjectId(objectId);
+        update.forceUpdate();
+    }
+
+    private ObjectId writeHistory() throws IOException {
+        for (int i = 0; i < INITIAL_FILES; i++) {
+            addFile(0);
+        }
+        for (String directory : files.keySet()) {
+            writeDirectory(directory);
+        }
+
+        List<ObjectId> history = new ArrayList<>(commits);
+        ObjectId head = writeCommit(0, writeRoot());
+        history.add(head);
+        for (int i = 1; i < commits; i++) {
+            for (int m = 0; m < filesPerCommit; m++) {
+                modifyFile(i);
+            }
+            if (i % 20 == 0) {
+                addFile(i);
+            }
+            if (i % 50 == 0) {
+                deleteFile();
+            }
+            if (isEvery(i, renameEvery)) {
+                renameFile();
+            }
+            ObjectId tree = writeRoot();
+            if (isEvery(i, mergeEvery) && i > 10) {
+                // a side branch forked ten commits ago, merged with the same content
+                ObjectId side = writeCommit(i, tree, history.get(i - 10));
+                head = writeCommit(i, tree, head, side);
+            } else {
+                head = writeCommit(i, tree, head);
+            }
+            history.add(head);
+            if (isEvery(i, tagEvery)) {
+                addTag(i, head);
+            }
+        }
+        return head;
+    }
+
+    private static boolean isEvery(final int commit, final int every) {
+        return every > 0 && commit % every == 0;
+    }
+
+    private void addFile(final int commit) throws IOException {
+        String directory = String.format("src/d%02d", random.nextInt(DIRECTORIES));
+        String name = String.format("F%05d.java", nextFile++);
+        files.computeIfAbsent(directory, key -> new TreeMap<>()).put(name, writeBlob(name, commit));
+        if (commit > 0) {
+            writeDirectory(directory);
+        }
+    }
+
+    private void modifyFile(final int commit) throws IOException {
+        String directory = randomDirectory();
+        Map<String, ObjectId> directoryFiles = files.get(directory);
+        String name = new ArrayList<>(directoryFiles.keySet()).get(random.nextInt(directoryFiles.size()));
+        directoryFiles.put(name, writeBlob(name, commit));
+        writeDirectory(directory);
+    }
+
+    private void deleteFile() throws IOException {
+        String directory = randomDirectory();
+        Map<String, ObjectId> directoryFiles = files.get(directory);
+        if (directoryFiles.size() > 1) {
+            directoryFiles.remove(directoryFiles.keySet().iterator().next());
+            writeDirectory(directory);
+        }
+    }
+
+    /*
+     * Moves a file with its content to another directory, so even exact rename detection finds it.
+     */
+    private void renameFile() throws IOException {
+        String from = randomDirectory();
+        String to = randomDirectory();
+        Map<String, ObjectId> fromFiles = files.get(from);
+        if (from.equals(to) || fromFiles.size() < 2) {
+            return;
+        }
+        String name = fromFiles.keySet().iterator().next();
+        files.get(to).put(String.format("F%05d.java", nextFile++), fromFiles.remove(name));
+        writeDirectory(from);
+        writeDirectory(to);
+    }
+
+    private void addTag(final int commit, final ObjectId head) throws IOException {
+        String name = "v" + commit;
+        if (tags.size() % 2 == 1) {
+            tags.put(name, head);
+            return;
+        }
+        TagBuilder tag = new TagBuilder();
+        tag.setTag(name);
+        tag.setObjectId(head, Constants.OBJ_COMMIT);
+        tag.setTagger(ident(commit));
+        tag.setMessage("Release " + name + "\n");
+        tags.put(name, inserter.insert(tag));
+    }
+
+    private String randomDirectory() {
+        return new ArrayList<>(files.keySet()).get(random.nextInt(files.size()));
+    }
+
+    /*
+     * A few lines of the file change with every version, the rest stays.
+     */
+    private ObjectId writeBlob(final String name, final int commit) throws IOException {
+        StringBuilder content = new StringBuilder("// ").append(name).append('\n');
+        for (int line = 0; line < LINES; line++) {
+            int version = random.nextInt(4) == 0 ? commit : 0;
+            content.append("line ").append(line).append(" of version ").append(version).append('\n');
+        }
+        return inserter.insert(Constants.OBJ_BLOB, content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeDirectory(final String directory) throws IOException {
+        TreeFormatter tree = new TreeFormatter();
+        for (Map.Entry<String, ObjectId> file : files.get(directory).entrySet()) {
+            tree.append(file.getKey(), FileMode.REGULAR_FILE, file.getValue());
+        }
+        directoryTrees.put(directory, inserter.insert(tree));
+    }
+
+    /*
+     * All directories are below 'src', so the root tree has a single entry.
+     */
+    private ObjectId writeRoot() throws IOException {
+        TreeFormatter src = new TreeFormatter();
+        for (Map.Entry<String, ObjectId> directory : directoryTrees.entrySet()) {
+            src.append(directory.getKey().substring("src/".length()), FileMode.TREE, directory.getValue());
+        }
+        TreeFormatter root = new TreeFormatter();
+        root.append("src", FileMode.TREE, inserter.insert(src));
+        return inserter.insert(root);
+    }
+
+    private ObjectId writeCommit(final int commit, final ObjectId tree, final ObjectId... parents) throws IOException {
+        PersonIdent ident = ident(commit);
+        CommitBuilder builder = new CommitBuilder();
+        builder.setTreeId(tree);
+        builder.setParentIds(parents);
+        builder.setAuthor(ident);
+        builder.setCommitter(ident);
+        builder.setMessage("Commit " + commit + "\n\nChanges " + filesPerCommit + " files.\n");
+        return inserter.insert(builder);
+    }
+
+    private PersonIdent ident(final int commit) {
+        int author = random.nextInt(AUTHORS);
+        return new PersonIdent("Author " + author, "author" + author + "@example.com", (START_TIME + commit * 600L) * 1000, 0);
+    }
+}
@@ -0,0 +1,35 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.Map;
+
+/**
+ * The number of lines 'git blame' attributes to each author of a file.
+ */
+class GitBlame {
+    private final String relativePath;
+    private final Map<GitIdentity, Integer> linesByAuthor;
+
+    /**
+     * @param linesByAuthor Author, with the mailmap applied -> number of lines.
+     */
+    GitBlame(final String relativePath, final Map<GitIdentity, Integer> linesByAuthor) {
+        this.relativePath = relativePath;
+        this.linesByAuthor = linesByAuthor;
+    }
+
+    String getRelativePath() {
+        return relativePath;
+    }
+
+    Map<GitIdentity, Integer> getLinesByAuthor() {
+        return linesByAuthor;
+    }
+
+    @Override
+    public String toString() {
+        return "GitBlame{" +
+               "relativePath='" + relativePath + '\'' +
+               ", linesByAuthor=" + linesByAuthor +
+               '}';
+    }
+}
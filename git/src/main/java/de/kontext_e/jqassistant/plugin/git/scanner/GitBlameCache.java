@@ -0,0 +1,69 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the blame results of files on disk, keyed by the blob id and the path of the file. As long as a file
+ * is not touched, its blob and with it the lines of every author stay the same, so later scans only blame
+ * the files that changed.
+ *
+ * Thread safe.
+ */
+class GitBlameCache extends GitCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitBlameCache.class);
+
+    private static final byte FORMAT_VERSION = 2;
+    private static final String BLAME_DIRECTORY = "blame";
+
+    GitBlameCache(final File directory, final long maxSize) throws IOException {
+        super(directory, BLAME_DIRECTORY, maxSize);
+        LOGGER.debug("Caching blame results in '{}'", getCacheDirectory());
+    }
+
+    /**
+     * @return The cached lines by author of the blob at the path or null, if they are not cached.
+     */
+    Map<String, Integer> get(final AnyObjectId blob, final String relativePath) {
+        return read(key(blob, relativePath), in -> {
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            Map<String, Integer> linesByAuthor = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                linesByAuthor.put(in.readUTF(), in.readInt());
+            }
+            return linesByAuthor;
+        });
+    }
+
+    void put(final AnyObjectId blob, final String relativePath, final Map<String, Integer> linesByAuthor) {
+        write(key(blob, relativePath), out -> {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(linesByAuthor.size());
+            for (Map.Entry<String, Integer> entry : linesByAuthor.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        });
+    }
+
+    /*
+     * The path is part of the key because the same content may have a different history at another path.
+     */
+    private static byte[] key(final AnyObjectId blob, final String relativePath) {
+        byte[] path = relativePath.getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[Constants.OBJECT_ID_LENGTH + path.length];
+        blob.copyRawTo(key, 0);
+        System.arraycopy(path, 0, key, Constants.OBJECT_ID_LENGTH, path.length);
+        return key;
+    }
+}
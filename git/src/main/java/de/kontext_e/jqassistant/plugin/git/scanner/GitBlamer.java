@@ -0,0 +1,234 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.eclipse.jgit.blame.BlameGenerator;
+import org.eclipse.jgit.blame.BlameResult;
+import org.eclipse.jgit.diff.RawText;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the lines every author owns in the files of a commit, like 'git blame' does.
+ *
+ * Blaming a file walks its whole history, so the files are blamed by a pool of workers and the results are
+ * handed over to the consumer in tree order. The number of files in flight is bounded. With the optional
+ * {@link GitBlameCache} only files whose content changed since the last scan are blamed again.
+ */
+class GitBlamer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitBlamer.class);
+
+    private static final int FILES_PER_THREAD = 4;
+
+    private final Repository repository;
+    private final GitIdentities identities;
+    private final GitBlameCache cache;
+    private final int threads;
+    private final int maxBlobSize;
+    private final Deque<Future<GitBlame>> pending = new ArrayDeque<>();
+    private ExecutorService executor;
+
+    GitBlamer(final Repository repository, final GitIdentities identities, final GitBlameCache cache, final int threads, final int maxBlobSize) {
+        this.repository = repository;
+        this.identities = identities;
+        this.cache = cache;
+        this.threads = threads;
+        this.maxBlobSize = maxBlobSize;
+        if (threads > 1) {
+            LOGGER.debug("Blaming files with {} threads", threads);
+            executor = Executors.newFixedThreadPool(threads, new BlameThreadFactory());
+        }
+    }
+
+    /**
+     * Blames the files of the commit whose path matches the glob pattern.
+     */
+    void blame(final ObjectId commitId, final String glob, final Consumer<GitBlame> consumer) throws IOException {
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        int count = 0;
+        try (RevWalk revWalk = new RevWalk(repository);
+             TreeWalk treeWalk = new TreeWalk(repository)) {
+            RevCommit commit = revWalk.parseCommit(commitId);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                // neither symbolic links nor submodules have lines
+                if (treeWalk.getFileMode(0).getObjectType() != Constants.OBJ_BLOB || treeWalk.getFileMode(0) == FileMode.SYMLINK) {
+                    continue;
+                }
+                String path = treeWalk.getPathString();
+                if (!matcher.matches(Paths.get(path))) {
+                    continue;
+                }
+                submit(blameTask(commit, path, treeWalk.getObjectId(0)), consumer);
+                count++;
+            }
+        }
+        while (!pending.isEmpty()) {
+            emit(pending.removeFirst(), consumer);
+        }
+        LOGGER.debug("Blamed {} files matching '{}'", count, glob);
+    }
+
+    private void submit(final Callable<GitBlame> task, final Consumer<GitBlame> consumer) throws IOException {
+        if (executor == null) {
+            GitBlame gitBlame = call(task);
+            if (gitBlame != null) {
+                consumer.accept(gitBlame);
+            }
+            return;
+        }
+
+        pending.addLast(executor.submit(task));
+        while (pending.size() > threads * FILES_PER_THREAD) {
+            emit(pending.removeFirst(), consumer);
+        }
+    }
+
+    private void emit(final Future<GitBlame> future, final Consumer<GitBlame> consumer) throws IOException {
+        try {
+            GitBlame gitBlame = future.get();
+            if (gitBlame != null) {
+                consumer.accept(gitBlame);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for blame results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Could not blame files", e.getCause());
+        }
+    }
+
+    private static GitBlame call(final Callable<GitBlame> task) throws IOException {
+        try {
+            return task.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not blame files", e);
+        }
+    }
+
+    private Callable<GitBlame> blameTask(final RevCommit commit, final String path, final ObjectId blob) {
+        return () -> {
+            Map<String, Integer> cachedLines = cache != null ? cache.get(blob, path) : null;
+            Map<GitIdentity, Integer> linesByAuthor;
+            if (cachedLines != null) {
+                linesByAuthor = new LinkedHashMap<>();
+                cachedLines.forEach((identString, lines) -> linesByAuthor.put(identities.parseRaw(identString), lines));
+            } else {
+                if (!hasLines(blob, path)) {
+                    return null;
+                }
+                linesByAuthor = blame(commit, path);
+                if (cache != null) {
+                    cache.put(blob, path, toIdentStrings(linesByAuthor));
+                }
+            }
+            return new GitBlame(path, toProperIdentities(linesByAuthor));
+        };
+    }
+
+    /*
+     * Binary files and files above the size limit are not blamed.
+     */
+    private boolean hasLines(final ObjectId blob, final String path) throws IOException {
+        try (ObjectReader reader = repository.newObjectReader()) {
+            if (reader.getObjectSize(blob, Constants.OBJ_BLOB) > maxBlobSize) {
+                LOGGER.debug("Not blaming '{}', it is too large", path);
+                return false;
+            }
+            if (RawText.isBinary(reader.open(blob, Constants.OBJ_BLOB).getCachedBytes(maxBlobSize))) {
+                LOGGER.debug("Not blaming binary file '{}'", path);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /*
+     * The cache keeps the raw identities of the commits, the mailmap is applied afterwards.
+     */
+    private static Map<String, Integer> toIdentStrings(final Map<GitIdentity, Integer> linesByAuthor) {
+        Map<String, Integer> linesByIdentString = new LinkedHashMap<>();
+        linesByAuthor.forEach((identity, lines) -> linesByIdentString.put(identity.getIdentString(), lines));
+        return linesByIdentString;
+    }
+
+    private Map<GitIdentity, Integer> toProperIdentities(final Map<GitIdentity, Integer> linesByAuthor) {
+        Map<GitIdentity, Integer> linesByProperAuthor = new LinkedHashMap<>();
+        linesByAuthor.forEach((identity, lines) -> linesByProperAuthor.merge(identities.get(identity), lines, Integer::sum));
+        return linesByProperAuthor;
+    }
+
+    private Map<GitIdentity, Integer> blame(final RevCommit commit, final String path) throws IOException {
+        Map<GitIdentity, Integer> linesByAuthor = new LinkedHashMap<>();
+        try (BlameGenerator generator = new BlameGenerator(repository, path)) {
+            generator.push(null, commit);
+            BlameResult result = BlameResult.create(generator);
+            if (result == null) {
+                return linesByAuthor;
+            }
+            result.computeAll();
+            int lines = result.getResultContents().size();
+            for (int i = 0; i < lines; i++) {
+                PersonIdent author = result.getSourceAuthor(i);
+                if (author != null) {
+                    linesByAuthor.merge(identities.getRaw(author), 1, Integer::sum);
+                }
+            }
+        }
+        return linesByAuthor;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            pending.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class BlameThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "git-blame-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,610 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps results computed from immutable Git objects on disk, so later scans can skip the computation.
+ *
+ * Every cache appends its entries to a few large pack files in a subdirectory of its own, a scan only ever
+ * appends to the packs it created itself. When a pack is done, an index file next to it lists the offsets of
+ * its entries, so opening the cache only reads the index files. An entry carries its full key and a checksum;
+ * an entry that cannot be verified is a miss.
+ *
+ * When the scan is done, whole packs are evicted, oldest first, until all caches sharing the directory fit into
+ * the size limit. Entries read from the packs next in line for eviction are appended again, so the entries in
+ * use move along with the scans and survive.
+ *
+ * Thread safe.
+ */
+abstract class GitCache implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitCache.class);
+
+    private static final String PACK_SUFFIX = ".pack";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int PACK_MAGIC = 0x4743504b;
+    private static final int INDEX_MAGIC = 0x47434958;
+    private static final int PACK_HEADER_SIZE = 4;
+    // key length, payload length, key, payload, checksum
+    private static final int ENTRY_OVERHEAD = 12;
+    private static final int MAX_KEY_LENGTH = 64 * 1024;
+    // a pack takes about this share of the size limit, the directory keeps at most twice as many packs
+    private static final int PACKS = 8;
+    private static final int MAX_PACKS = 2 * PACKS;
+    private static final long MIN_PACK_SIZE = 64 * 1024;
+    // the packs the caches of this JVM are appending to, eviction leaves them alone
+    private static final Set<Path> ACTIVE_PACKS = ConcurrentHashMap.newKeySet();
+
+    interface EntryReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    interface EntryWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final class Pack {
+        private final Path path;
+        private final int number;
+        // next in line for eviction: hits are appended again
+        private final boolean cold;
+        private FileChannel channel;
+        // end of the last verified entry
+        private long length;
+
+        private Pack(final Path path, final int number, final boolean cold) {
+            this.path = path;
+            this.number = number;
+            this.cold = cold;
+        }
+    }
+
+    private final Path directory;
+    private final Path cacheDirectory;
+    private final long maxSize;
+    private final long packSize;
+    // guarded by this
+    private final List<Pack> packs = new ArrayList<>();
+    private final EntryIndex index = new EntryIndex();
+    private Pack appendPack;
+    private boolean writable = true;
+    private boolean closed;
+
+    /**
+     * @param name The subdirectory of the entries of this cache.
+     */
+    GitCache(final File directory, final String name, final long maxSize) throws IOException {
+        this.directory = directory.toPath();
+        this.cacheDirectory = this.directory.resolve(name);
+        this.maxSize = maxSize;
+        this.packSize = Math.max(maxSize / PACKS, MIN_PACK_SIZE);
+        Files.createDirectories(cacheDirectory);
+        open();
+    }
+
+    Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /*
+     * Index the entries of the packs of this cache. The packs that the next scan would evict are cold.
+     */
+    private void open() throws IOException {
+        List<Path> allPacks = listPacks(directory);
+        long size = 0;
+        for (Path pack : allPacks) {
+            size += sizeOf(pack);
+        }
+        int count = allPacks.size();
+        for (Path pack : allPacks) {
+            boolean cold = size + packSize > maxSize || count + 1 > MAX_PACKS;
+            if (cold) {
+                size -= sizeOf(pack);
+                count--;
+            }
+            if (pack.getParent().equals(cacheDirectory)) {
+                Pack cachePack = new Pack(pack, packs.size(), cold);
+                packs.add(cachePack);
+                load(cachePack);
+            }
+        }
+        LOGGER.debug("Opened cache '{}' with {} entries in {} packs", cacheDirectory, index.size(), packs.size());
+    }
+
+    private void load(final Pack pack) {
+        long indexedLength = readIndexFile(pack);
+        try (FileChannel channel = FileChannel.open(pack.path, StandardOpenOption.READ);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(newInputStream(channel, indexedLength)))) {
+            long offset = indexedLength;
+            if (offset == 0) {
+                if (in.readInt() != PACK_MAGIC) {
+                    LOGGER.debug("Ignoring cache pack '{}' of another format", pack.path);
+                    return;
+                }
+                offset = PACK_HEADER_SIZE;
+            }
+            // the entries appended after the index was written, up to the first incomplete one
+            offset += scanEntries(in, pack, offset, channel.size());
+            pack.length = offset;
+        } catch (EOFException | NoSuchFileException e) {
+            LOGGER.debug("Ignoring incomplete cache pack '{}'", pack.path);
+        } catch (IOException e) {
+            LOGGER.debug("Ignoring unreadable cache pack '{}': {}", pack.path, e.getMessage());
+        }
+    }
+
+    private long scanEntries(final DataInputStream in, final Pack pack, final long start, final long end) {
+        long offset = start;
+        try {
+            while (true) {
+                int keyLength = in.readInt();
+                int payloadLength = in.readInt();
+                if (keyLength <= 0 || keyLength > MAX_KEY_LENGTH || payloadLength < 0
+                    || offset + ENTRY_OVERHEAD + keyLength + payloadLength > end) {
+                    break;
+                }
+                byte[] entry = new byte[keyLength + payloadLength];
+                in.readFully(entry);
+                if (in.readInt() != checksum(entry, entry.length)) {
+                    break;
+                }
+                index.put(hash(entry, keyLength), location(pack.number, offset));
+                offset += ENTRY_OVERHEAD + entry.length;
+            }
+        } catch (IOException e) {
+            // the end of the pack or an entry cut off by an aborted scan
+        }
+        return offset - start;
+    }
+
+    /*
+     * Returns the length of the pack the index file covers, 0 if there is none. A pack that cannot be read keeps
+     * its number, so the entries stay with their packs, and simply has no readable entries.
+     */
+    private long readIndexFile(final Pack pack) {
+        Path indexFile = indexPath(pack.path);
+        if (!Files.exists(indexFile)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC) {
+                return 0;
+            }
+            long length = in.readLong();
+            int count = in.readInt();
+            if (length > Files.size(pack.path)) {
+                return 0;
+            }
+            for (int i = 0; i < count; i++) {
+                long hash = in.readLong();
+                long offset = in.readLong();
+                index.put(hash, location(pack.number, offset));
+            }
+            return length;
+        } catch (IOException e) {
+            LOGGER.debug("Ignoring unreadable cache index '{}': {}", indexFile, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * @return What the reader made of the entry or null, if there is no readable entry.
+     */
+    <T> T read(final byte[] key, final EntryReader<T> reader) {
+        Pack pack;
+        long offset;
+        synchronized (this) {
+            long location = index.get(hash(key, key.length));
+            if (location == EntryIndex.NOT_FOUND || closed) {
+                return null;
+            }
+            pack = packs.get(packNumber(location));
+            offset = offset(location);
+        }
+        try {
+            byte[] payload = readPayload(pack, offset, key);
+            if (payload == null) {
+                return null;
+            }
+            T result = reader.read(new DataInputStream(new ByteArrayInputStream(payload)));
+            if (result != null && pack.cold) {
+                append(key, payload);
+            }
+            return result;
+        } catch (IOException e) {
+            LOGGER.debug("Ignoring unreadable cache entry in '{}': {}", pack.path, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] readPayload(final Pack pack, final long offset, final byte[] key) throws IOException {
+        FileChannel channel = channel(pack);
+        ByteBuffer lengths = ByteBuffer.allocate(8);
+        readFully(channel, lengths, offset);
+        int keyLength = lengths.getInt(0);
+        int payloadLength = lengths.getInt(4);
+        if (keyLength != key.length || payloadLength < 0 || offset + ENTRY_OVERHEAD + keyLength + payloadLength > channel.size()) {
+            return null;
+        }
+        ByteBuffer entry = ByteBuffer.allocate(keyLength + payloadLength + 4);
+        readFully(channel, entry, offset + 8);
+        byte[] bytes = entry.array();
+        if (!Arrays.equals(Arrays.copyOf(bytes, keyLength), key)) {
+            return null;
+        }
+        if (entry.getInt(keyLength + payloadLength) != checksum(bytes, keyLength + payloadLength)) {
+            LOGGER.debug("Ignoring corrupt cache entry in '{}' at {}", pack.path, offset);
+            return null;
+        }
+        return Arrays.copyOfRange(bytes, keyLength, keyLength + payloadLength);
+    }
+
+    private synchronized FileChannel channel(final Pack pack) throws IOException {
+        if (closed) {
+            throw new IOException("The cache is closed");
+        }
+        if (pack.channel == null) {
+            pack.channel = FileChannel.open(pack.path, StandardOpenOption.READ);
+        }
+        return pack.channel;
+    }
+
+    void write(final byte[] key, final EntryWriter writer) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            writer.write(out);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write cache entry: {}", e.getMessage());
+            return;
+        }
+        append(key, payload.toByteArray());
+    }
+
+    private synchronized void append(final byte[] key, final byte[] payload) {
+        if (closed || !writable) {
+            return;
+        }
+        try {
+            if (appendPack == null) {
+                appendPack = createPack();
+            }
+            ByteBuffer entry = ByteBuffer.allocate(ENTRY_OVERHEAD + key.length + payload.length);
+            entry.putInt(key.length).putInt(payload.length).put(key).put(payload);
+            entry.putInt(checksum(entry.array(), 8, key.length + payload.length));
+            entry.flip();
+            long offset = appendPack.length;
+            while (entry.hasRemaining()) {
+                appendPack.channel.write(entry, offset + entry.position());
+            }
+            appendPack.length += entry.limit();
+            index.put(hash(key, key.length), location(appendPack.number, offset));
+            if (appendPack.length >= packSize) {
+                finishPack();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write to the cache in '{}', no longer caching: {}", cacheDirectory, e.getMessage());
+            writable = false;
+        }
+    }
+
+    /*
+     * Packs are named after their creation time, so their names sort oldest first, also across the caches.
+     */
+    private Pack createPack() throws IOException {
+        String name = String.format("%016x-%08x", System.currentTimeMillis(), ThreadLocalRandom.current().nextInt());
+        Pack pack = new Pack(cacheDirectory.resolve(name + PACK_SUFFIX), packs.size(), false);
+        ACTIVE_PACKS.add(pack.path);
+        try {
+            pack.channel = FileChannel.open(pack.path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(PACK_HEADER_SIZE).putInt(0, PACK_MAGIC);
+            while (header.hasRemaining()) {
+                pack.channel.write(header, header.position());
+            }
+        } catch (IOException e) {
+            ACTIVE_PACKS.remove(pack.path);
+            throw e;
+        }
+        pack.length = PACK_HEADER_SIZE;
+        packs.add(pack);
+        return pack;
+    }
+
+    /*
+     * Write the index file of the pack appended to, so the next scan needs not read the pack.
+     */
+    private void finishPack() {
+        Pack pack = appendPack;
+        appendPack = null;
+        Path indexFile = indexPath(pack.path);
+        Path temporary = indexFile.resolveSibling(indexFile.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            pack.channel.force(false);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeLong(pack.length);
+                out.writeInt(index.count(pack.number));
+                index.forEach(pack.number, (hash, offset) -> {
+                    out.writeLong(hash);
+                    out.writeLong(offset);
+                });
+            }
+            try {
+                Files.move(temporary, indexFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not write cache index '{}': {}", indexFile, e.getMessage());
+            deleteQuietly(temporary);
+        } finally {
+            ACTIVE_PACKS.remove(pack.path);
+        }
+    }
+
+    /**
+     * Evicts the oldest packs until the cache fits into its size limit.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (appendPack != null) {
+                finishPack();
+            }
+            closed = true;
+            for (Pack pack : packs) {
+                if (pack.channel != null) {
+                    try {
+                        pack.channel.close();
+                    } catch (IOException e) {
+                        LOGGER.debug("Could not close cache pack '{}': {}", pack.path, e.getMessage());
+                    }
+                }
+            }
+        }
+        evict();
+    }
+
+    private void evict() {
+        List<Path> allPacks;
+        try {
+            allPacks = listPacks(directory);
+            deleteOrphanedIndexFiles();
+        } catch (IOException e) {
+            LOGGER.warn("Could not evict cache entries in '{}': {}", directory, e.getMessage());
+            return;
+        }
+        long size = 0;
+        for (Path pack : allPacks) {
+            size += sizeOf(pack);
+        }
+        int count = allPacks.size();
+        int evicted = 0;
+        for (Path pack : allPacks) {
+            if (size <= maxSize && count <= MAX_PACKS) {
+                break;
+            }
+            if (ACTIVE_PACKS.contains(pack)) {
+                continue;
+            }
+            long packSize = sizeOf(pack);
+            deleteQuietly(indexPath(pack));
+            if (deleteQuietly(pack)) {
+                size -= packSize;
+                count--;
+                evicted++;
+            }
+        }
+        LOGGER.debug("Evicted {} cache packs", evicted);
+    }
+
+    private void deleteOrphanedIndexFiles() throws IOException {
+        try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(cacheDirectory, "*" + INDEX_SUFFIX)) {
+            for (Path indexFile : indexFiles) {
+                String name = indexFile.getFileName().toString();
+                Path pack = indexFile.resolveSibling(name.substring(0, name.length() - INDEX_SUFFIX.length()) + PACK_SUFFIX);
+                if (!Files.exists(pack)) {
+                    deleteQuietly(indexFile);
+                }
+            }
+        }
+    }
+
+    /*
+     * The packs of all caches in the directory, oldest first.
+     */
+    private static List<Path> listPacks(final Path directory) throws IOException {
+        List<Path> packs = new ArrayList<>();
+        try (DirectoryStream<Path> cacheDirectories = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path cacheDirectory : cacheDirectories) {
+                try (DirectoryStream<Path> cachePacks = Files.newDirectoryStream(cacheDirectory, "*" + PACK_SUFFIX)) {
+                    cachePacks.forEach(packs::add);
+                }
+            }
+        }
+        packs.sort(Comparator.comparing(pack -> pack.getFileName().toString()));
+        return packs;
+    }
+
+    private static long sizeOf(final Path pack) {
+        long size = 0;
+        for (Path file : new Path[] {pack, indexPath(pack)}) {
+            try {
+                size += Files.size(file);
+            } catch (IOException e) {
+                // already gone
+            }
+        }
+        return size;
+    }
+
+    private static Path indexPath(final Path pack) {
+        String name = pack.getFileName().toString();
+        return pack.resolveSibling(name.substring(0, name.length() - PACK_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    private static InputStream newInputStream(final FileChannel channel, final long position) throws IOException {
+        channel.position(position);
+        return Channels.newInputStream(channel);
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Cache entry ends early");
+            }
+        }
+    }
+
+    private static long location(final int packNumber, final long offset) {
+        return ((long) packNumber << 40) | offset;
+    }
+
+    private static int packNumber(final long location) {
+        return (int) (location >>> 40);
+    }
+
+    private static long offset(final long location) {
+        return location & ((1L << 40) - 1);
+    }
+
+    private static int checksum(final byte[] bytes, final int length) {
+        return checksum(bytes, 0, length);
+    }
+
+    private static int checksum(final byte[] bytes, final int offset, final int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /*
+     * FNV-1a, never 0, which marks a free slot of the index.
+     */
+    private static long hash(final byte[] key, final int length) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < length; i++) {
+            hash ^= key[i] & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    private static boolean deleteQuietly(final Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete '{}': {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Hash of the key of an entry -> pack number and offset of the entry, in two parallel arrays. A later entry
+     * with the same hash replaces the former one; the full key is checked when reading anyway.
+     */
+    private static final class EntryIndex {
+        private static final long NOT_FOUND = -1;
+        private static final float MAX_LOAD = 0.66f;
+
+        interface OffsetConsumer {
+            void accept(long hash, long offset) throws IOException;
+        }
+
+        private long[] hashes = new long[64];
+        private long[] locations = new long[64];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void put(final long hash, final long location) {
+            if (size >= hashes.length * MAX_LOAD) {
+                grow();
+            }
+            int mask = hashes.length - 1;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (hashes[slot] != 0 && hashes[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            if (hashes[slot] == 0) {
+                hashes[slot] = hash;
+                size++;
+            }
+            locations[slot] = location;
+        }
+
+        long get(final long hash) {
+            int mask = hashes.length - 1;
+            for (int slot = (int) (hash ^ (hash >>> 32)) & mask; hashes[slot] != 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash) {
+                    return locations[slot];
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        int count(final int packNumber) {
+            int count = 0;
+            for (int slot = 0; slot < hashes.length; slot++) {
+                if (hashes[slot] != 0 && packNumber(locations[slot]) == packNumber) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        void forEach(final int packNumber, final OffsetConsumer consumer) throws IOException {
+            for (int slot = 0; slot < hashes.length; slot++) {
+                if (hashes[slot] != 0 && packNumber(locations[slot]) == packNumber) {
+                    consumer.accept(hashes[slot], offset(locations[slot]));
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldHashes = hashes;
+            long[] oldLocations = locations;
+            hashes = new long[oldHashes.length << 1];
+            locations = new long[oldLocations.length << 1];
+            size = 0;
+            for (int i = 0; i < oldHashes.length; i++) {
+                if (oldHashes[i] != 0) {
+                    put(oldHashes[i], oldLocations[i]);
+                }
+            }
+        }
+    }
+}
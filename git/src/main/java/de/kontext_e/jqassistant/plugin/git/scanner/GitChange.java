@@ -8,13 +8,25 @@ public class GitChange {
     private final String changeType;
     private final String oldPath;
     private final String newPath;
+    private final Integer linesAdded;
+    private final Integer linesDeleted;
 
     public GitChange(final String changeType, final String oldPath, final String newPath) {
+        this(changeType, oldPath, newPath, null, null);
+    }
+
+    /**
+     * @param linesAdded Number of added lines or null, if the churn is unknown (not collected, binary or too large file).
+     * @param linesDeleted Number of deleted lines or null, if the churn is unknown.
+     */
+    public GitChange(final String changeType, final String oldPath, final String newPath, final Integer linesAdded, final Integer linesDeleted) {
         this.modificationKind = changeType.substring(0, 1);
         this.relativePath = DiffEntry.ChangeType.DELETE.name().equalsIgnoreCase(changeType) ? oldPath : newPath;
         this.changeType = changeType;
         this.oldPath = oldPath;
         this.newPath = newPath;
+        this.linesAdded = linesAdded;
+        this.linesDeleted = linesDeleted;
     }
 
     public String getModificationKind() {
@@ -37,6 +49,14 @@ public class GitChange {
         return newPath;
     }
 
+    public Integer getLinesAdded() {
+        return linesAdded;
+    }
+
+    public Integer getLinesDeleted() {
+        return linesDeleted;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -49,6 +69,8 @@ public class GitChange {
         if (changeType != null ? !changeType.equals(gitChange.changeType) : gitChange.changeType != null) return false;
         if (oldPath != null ? !oldPath.equals(gitChange.oldPath) : gitChange.oldPath != null) return false;
         if (newPath != null ? !newPath.equals(gitChange.newPath) : gitChange.newPath != null) return false;
+        if (linesAdded != null ? !linesAdded.equals(gitChange.linesAdded) : gitChange.linesAdded != null) return false;
+        if (linesDeleted != null ? !linesDeleted.equals(gitChange.linesDeleted) : gitChange.linesDeleted != null) return false;
 
         return true;
     }
@@ -60,6 +82,8 @@ public class GitChange {
         result = 31 * result + (changeType != null ? changeType.hashCode() : 0);
         result = 31 * result + (oldPath != null ? oldPath.hashCode() : 0);
         result = 31 * result + (newPath != null ? newPath.hashCode() : 0);
+        result = 31 * result + (linesAdded != null ? linesAdded.hashCode() : 0);
+        result = 31 * result + (linesDeleted != null ? linesDeleted.hashCode() : 0);
         return result;
     }
 
@@ -71,6 +95,8 @@ public class GitChange {
                ", changeType='" + changeType + '\'' +
                ", oldPath='" + oldPath + '\'' +
                ", newPath='" + newPath + '\'' +
+               ", linesAdded=" + linesAdded +
+               ", linesDeleted=" + linesDeleted +
                '}';
     }
 }
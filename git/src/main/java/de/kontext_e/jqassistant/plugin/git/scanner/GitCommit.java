@@ -6,8 +6,8 @@ import java.util.List;
 
 public class GitCommit {
     private final String sha;
-    private String author;
-    private String committer;
+    private GitIdentity author;
+    private GitIdentity committer;
     private Date date;
     private String message;
     private String shortMessage;
@@ -32,15 +32,23 @@ public class GitCommit {
     }
 
     public String getAuthor() {
+        return null != author ? author.getIdentString() : null;
+    }
+
+    public GitIdentity getAuthorIdentity() {
         return author;
     }
-    protected void setAuthor (final String author) {this.author = author;}
+    protected void setAuthor (final GitIdentity author) {this.author = author;}
 
     public String getCommitter() {
+        return null != committer ? committer.getIdentString() : null;
+    }
+
+    public GitIdentity getCommitterIdentity() {
         return committer;
     }
 
-    public void setCommitter(final String committer) {
+    public void setCommitter(final GitIdentity committer) {
         this.committer = committer;
     }
 
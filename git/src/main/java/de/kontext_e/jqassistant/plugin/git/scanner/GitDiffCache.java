@@ -0,0 +1,82 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the changes of a commit against one of its parents on disk. Commits are immutable, so once computed
+ * the changes of a (commit, parent) pair never change and later scans can skip the tree diff.
+ *
+ * The entries are keyed by the ids of both commits.
+ *
+ * Thread safe.
+ */
+class GitDiffCache extends GitCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitDiffCache.class);
+
+    private static final byte FORMAT_VERSION = 3;
+    private static final int UNKNOWN_LINES = -1;
+
+    /**
+     * @param policy The changes depend on the diff policy, so every policy has its own entries.
+     */
+    GitDiffCache(final File directory, final GitDiffPolicy policy, final long maxSize) throws IOException {
+        super(directory, policy.getCacheKey(), maxSize);
+        LOGGER.debug("Caching diffs in '{}'", getCacheDirectory());
+    }
+
+    /**
+     * @return The cached changes of the commit against the parent or null, if they are not cached.
+     */
+    List<GitChange> get(final AnyObjectId commit, final AnyObjectId parent) {
+        return read(key(commit, parent), in -> {
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            List<GitChange> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                changes.add(new GitChange(in.readUTF(), in.readUTF(), in.readUTF(), readLines(in), readLines(in)));
+            }
+            return changes;
+        });
+    }
+
+    void put(final AnyObjectId commit, final AnyObjectId parent, final List<GitChange> changes) {
+        write(key(commit, parent), out -> {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(changes.size());
+            for (GitChange change : changes) {
+                out.writeUTF(change.getChangeType());
+                out.writeUTF(change.getOldPath());
+                out.writeUTF(change.getNewPath());
+                writeLines(out, change.getLinesAdded());
+                writeLines(out, change.getLinesDeleted());
+            }
+        });
+    }
+
+    private static Integer readLines(final DataInputStream in) throws IOException {
+        int lines = in.readInt();
+        return lines == UNKNOWN_LINES ? null : lines;
+    }
+
+    private static void writeLines(final DataOutputStream out, final Integer lines) throws IOException {
+        out.writeInt(lines != null ? lines : UNKNOWN_LINES);
+    }
+
+    private static byte[] key(final AnyObjectId commit, final AnyObjectId parent) {
+        byte[] key = new byte[2 * Constants.OBJECT_ID_LENGTH];
+        commit.copyRawTo(key, 0);
+        parent.copyRawTo(key, Constants.OBJECT_ID_LENGTH);
+        return key;
+    }
+}
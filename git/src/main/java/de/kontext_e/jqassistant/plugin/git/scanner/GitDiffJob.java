@@ -0,0 +1,42 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * A commit waiting for its changes: the commit and its parents together with their trees, taken from the history walk.
+ */
+class GitDiffJob {
+    private final GitCommit gitCommit;
+    private final ObjectId commit;
+    private final ObjectId tree;
+    private final ObjectId[] parents;
+    private final ObjectId[] parentTrees;
+
+    GitDiffJob(final GitCommit gitCommit, final ObjectId commit, final ObjectId tree, final ObjectId[] parents, final ObjectId[] parentTrees) {
+        this.gitCommit = gitCommit;
+        this.commit = commit;
+        this.tree = tree;
+        this.parents = parents;
+        this.parentTrees = parentTrees;
+    }
+
+    GitCommit getGitCommit() {
+        return gitCommit;
+    }
+
+    ObjectId getCommit() {
+        return commit;
+    }
+
+    ObjectId getTree() {
+        return tree;
+    }
+
+    ObjectId[] getParents() {
+        return parents;
+    }
+
+    ObjectId[] getParentTrees() {
+        return parentTrees;
+    }
+}
@@ -0,0 +1,148 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the changes of the walked commits and hands the commits over to the consumer in walk order.
+ *
+ * With one thread every commit is diffed on the calling thread. With more threads the commits are collected
+ * in batches which are diffed by a pool of workers, each with its own {@link GitDiffer}. The number of batches
+ * in flight is bounded, so the walk cannot run away from the consumer.
+ */
+class GitDiffPipeline implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitDiffPipeline.class);
+
+    private static final int BATCH_SIZE = 64;
+    private static final int BATCHES_PER_THREAD = 2;
+
+    private final Repository repository;
+    private final GitDiffPolicy policy;
+    private final GitDiffCache cache;
+    private final Consumer<GitCommit> consumer;
+    private final int threads;
+    private final List<GitDiffer> differs = Collections.synchronizedList(new ArrayList<>());
+    private final ThreadLocal<GitDiffer> workerDiffer = ThreadLocal.withInitial(this::newDiffer);
+    private final Deque<Future<List<GitDiffJob>>> pending = new ArrayDeque<>();
+    private ExecutorService executor;
+    private GitDiffer differ;
+    private List<GitDiffJob> batch = new ArrayList<>(BATCH_SIZE);
+
+    GitDiffPipeline(final Repository repository, final GitDiffPolicy policy, final GitDiffCache cache, final int threads, final Consumer<GitCommit> consumer) {
+        this.repository = repository;
+        this.policy = policy;
+        this.cache = cache;
+        this.threads = threads;
+        this.consumer = consumer;
+        if (threads > 1) {
+            LOGGER.debug("Diffing commits with {} threads", threads);
+            executor = Executors.newFixedThreadPool(threads, new DiffThreadFactory());
+        } else {
+            differ = newDiffer();
+        }
+    }
+
+    void submit(final GitDiffJob job) throws IOException {
+        if (executor == null) {
+            differ.addChanges(job);
+            consumer.accept(job.getGitCommit());
+            return;
+        }
+
+        batch.add(job);
+        if (batch.size() >= BATCH_SIZE) {
+            submitBatch();
+        }
+        while (pending.size() > threads * BATCHES_PER_THREAD) {
+            emit(pending.removeFirst());
+        }
+    }
+
+    private void submitBatch() {
+        final List<GitDiffJob> jobs = batch;
+        batch = new ArrayList<>(BATCH_SIZE);
+        pending.addLast(executor.submit(() -> {
+            GitDiffer differ = workerDiffer.get();
+            for (GitDiffJob job : jobs) {
+                differ.addChanges(job);
+            }
+            return jobs;
+        }));
+    }
+
+    private void emit(final Future<List<GitDiffJob>> future) throws IOException {
+        try {
+            for (GitDiffJob job : future.get()) {
+                consumer.accept(job.getGitCommit());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for diffs", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Could not compute diffs", e.getCause());
+        }
+    }
+
+    /**
+     * Waits for the outstanding batches and hands their commits over to the consumer.
+     */
+    void finish() throws IOException {
+        if (executor != null) {
+            if (!batch.isEmpty()) {
+                submitBatch();
+            }
+            while (!pending.isEmpty()) {
+                emit(pending.removeFirst());
+            }
+        }
+    }
+
+    private GitDiffer newDiffer() {
+        GitDiffer gitDiffer = new GitDiffer(repository, policy, cache);
+        differs.add(gitDiffer);
+        return gitDiffer;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            pending.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        differs.forEach(GitDiffer::close);
+    }
+
+    private static class DiffThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "git-diff-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How thoroughly the changes of a commit are computed: whether and how renames are detected, up to which
+ * number of changed files renames are looked for, whether merges are diffed against their first parent only,
+ * whether the changed lines are counted and below which paths changes are recorded at all.
+ */
+class GitDiffPolicy {
+
+    enum RenameDetection {
+        /** Renamed files show up as a deleted and an added file. */
+        OFF,
+        /** Only files that were moved without changing their content are detected as renamed. */
+        EXACT,
+        /** Renamed, modified and copied files are detected by comparing their content (like 'git diff -M -C'). */
+        SIMILARITY
+    }
+
+    private final RenameDetection renameDetection;
+    private final int renameLimit;
+    private final int maxFiles;
+    private final boolean firstParent;
+    private final boolean churn;
+    private final int churnMaxBlobSize;
+    private final List<String> paths;
+
+    GitDiffPolicy(final RenameDetection renameDetection, final int renameLimit, final int maxFiles, final boolean firstParent,
+                  final boolean churn, final int churnMaxBlobSize, final List<String> paths) {
+        this.renameDetection = renameDetection;
+        this.renameLimit = renameLimit;
+        this.maxFiles = maxFiles;
+        this.firstParent = firstParent;
+        this.churn = churn;
+        this.churnMaxBlobSize = churnMaxBlobSize;
+        this.paths = paths;
+    }
+
+    RenameDetection getRenameDetection() {
+        return renameDetection;
+    }
+
+    /**
+     * @return Maximum number of added or deleted files compared by content to find renames, 0 for no limit.
+     */
+    int getRenameLimit() {
+        return renameLimit;
+    }
+
+    /**
+     * @return Number of changed files above which no renames are detected for a commit, 0 for no limit.
+     */
+    int getMaxFiles() {
+        return maxFiles;
+    }
+
+    boolean isFirstParent() {
+        return firstParent;
+    }
+
+    /**
+     * @return true if the added and deleted lines of every change are counted.
+     */
+    boolean isChurn() {
+        return churn;
+    }
+
+    /**
+     * @return Size in bytes above which a file is treated like a binary file and its lines are not counted.
+     */
+    int getChurnMaxBlobSize() {
+        return churnMaxBlobSize;
+    }
+
+    /**
+     * @return The paths below which changes are recorded, empty for all paths.
+     */
+    List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @return true if a diff with the given number of changed files is too large to look for renames.
+     */
+    boolean exceedsMaxFiles(final int changedFiles) {
+        return maxFiles > 0 && changedFiles > maxFiles;
+    }
+
+    /**
+     * @return A name for the settings that influence the changes computed for a single (commit, parent) pair.
+     */
+    String getCacheKey() {
+        String churnKey = churn ? "-churn-" + churnMaxBlobSize : "";
+        if (!paths.isEmpty()) {
+            List<String> sortedPaths = new ArrayList<>(paths);
+            Collections.sort(sortedPaths);
+            churnKey += "-paths-" + Integer.toHexString(String.join(",", sortedPaths).hashCode());
+        }
+        switch (renameDetection) {
+            case SIMILARITY:
+                return "similarity-" + renameLimit + "-" + maxFiles + churnKey;
+            case EXACT:
+                return "exact-" + maxFiles + churnKey;
+            default:
+                return "off" + churnKey;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GitDiffPolicy{" +
+               "renameDetection=" + renameDetection +
+               ", renameLimit=" + renameLimit +
+               ", maxFiles=" + maxFiles +
+               ", firstParent=" + firstParent +
+               ", churn=" + churn +
+               ", churnMaxBlobSize=" + churnMaxBlobSize +
+               ", paths=" + paths +
+               '}';
+    }
+}
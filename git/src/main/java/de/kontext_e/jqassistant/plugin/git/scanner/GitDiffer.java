@@ -0,0 +1,204 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.diff.RenameDetector;
+import org.eclipse.jgit.lib.AbbreviatedObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.patch.FileHeader;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the changes of a commit against its parents.
+ *
+ * Not thread safe: every diff worker owns its own instance with its own {@link ObjectReader}.
+ * The optional {@link GitDiffCache} is shared between the workers.
+ */
+class GitDiffer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitDiffer.class);
+
+    private final ObjectReader reader;
+    private final DiffFormatter diffFormatter;
+    private final RenameDetector renameDetector;
+    private final GitDiffPolicy policy;
+    private final GitDiffCache cache;
+    // reset for every diff instead of parsing the trees into new iterators
+    private final CanonicalTreeParser parentTreeParser = new CanonicalTreeParser();
+    private final CanonicalTreeParser treeParser = new CanonicalTreeParser();
+
+    GitDiffer(final Repository repository, final GitDiffPolicy policy, final GitDiffCache cache) {
+        this.policy = policy;
+        this.cache = cache;
+        reader = repository.newObjectReader();
+        diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE);
+        diffFormatter.setReader(reader, repository.getConfig());
+        diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
+        // renames are detected after the scan, when the number of changed files is known
+        diffFormatter.setDetectRenames(false);
+        // only the edit lists are used, not the formatted patch
+        diffFormatter.setContext(0);
+        // the tree walk of the diff skips everything outside of the paths
+        if (!policy.getPaths().isEmpty()) {
+            diffFormatter.setPathFilter(PathFilterGroup.createFromStrings(policy.getPaths()));
+        }
+        renameDetector = new RenameDetector(repository);
+        renameDetector.setRenameLimit(policy.getRenameLimit());
+    }
+
+    void addChanges(final GitDiffJob job) throws IOException {
+        int parents = policy.isFirstParent() ? Math.min(1, job.getParentTrees().length) : job.getParentTrees().length;
+        for (int i = 0; i < parents; i++) {
+            List<GitChange> gitChanges = null;
+            if (cache != null) {
+                gitChanges = cache.get(job.getCommit(), job.getParents()[i]);
+            }
+            if (gitChanges == null) {
+                gitChanges = diff(job.getParentTrees()[i], job.getTree());
+                if (cache != null) {
+                    cache.put(job.getCommit(), job.getParents()[i], gitChanges);
+                }
+            }
+            job.getGitCommit().getGitChanges().addAll(gitChanges);
+        }
+    }
+
+    private List<GitChange> diff(final ObjectId parentTree, final ObjectId tree) throws IOException {
+        parentTreeParser.reset(reader, parentTree);
+        treeParser.reset(reader, tree);
+        List<DiffEntry> diffs = diffFormatter.scan(parentTreeParser, treeParser);
+        if (policy.getRenameDetection() == GitDiffPolicy.RenameDetection.OFF) {
+            return toGitChanges(diffs);
+        }
+        if (policy.exceedsMaxFiles(diffs.size())) {
+            LOGGER.debug("Not detecting renames in {} changed files", diffs.size());
+            return toGitChanges(diffs);
+        }
+        if (policy.getRenameDetection() == GitDiffPolicy.RenameDetection.EXACT) {
+            return toGitChangesWithExactRenames(diffs);
+        }
+        renameDetector.reset();
+        renameDetector.addAll(diffs);
+        return toGitChanges(renameDetector.compute(reader, NullProgressMonitor.INSTANCE));
+    }
+
+    /*
+     * A deleted file whose content shows up again as an added file was renamed.
+     * This needs no content comparison at all, only the blob ids of the diff.
+     */
+    private List<GitChange> toGitChangesWithExactRenames(final List<DiffEntry> diffs) throws IOException {
+        Map<ObjectId, Deque<DiffEntry>> deletedByContent = new HashMap<>();
+        for (DiffEntry diff : diffs) {
+            if (diff.getChangeType() == DiffEntry.ChangeType.DELETE && diff.getOldId().isComplete()) {
+                deletedByContent.computeIfAbsent(diff.getOldId().toObjectId(), id -> new ArrayDeque<>()).add(diff);
+            }
+        }
+        if (deletedByContent.isEmpty()) {
+            return toGitChanges(diffs);
+        }
+
+        Set<DiffEntry> renamed = new HashSet<>();
+        Map<DiffEntry, DiffEntry> renamedFrom = new HashMap<>();
+        for (DiffEntry diff : diffs) {
+            if (diff.getChangeType() == DiffEntry.ChangeType.ADD && diff.getNewId().isComplete()) {
+                Deque<DiffEntry> deleted = deletedByContent.get(diff.getNewId().toObjectId());
+                if (deleted != null && !deleted.isEmpty()) {
+                    DiffEntry oldFile = deleted.removeFirst();
+                    renamed.add(oldFile);
+                    renamedFrom.put(diff, oldFile);
+                }
+            }
+        }
+
+        List<GitChange> gitChanges = new ArrayList<>(diffs.size() - renamed.size());
+        for (DiffEntry diff : diffs) {
+            if (renamed.contains(diff)) {
+                continue;
+            }
+            DiffEntry oldFile = renamedFrom.get(diff);
+            if (oldFile != null) {
+                // same content, so no lines changed
+                Integer unchanged = policy.isChurn() ? 0 : null;
+                gitChanges.add(toGitChange(DiffEntry.ChangeType.RENAME.name(), oldFile.getOldPath(), diff.getNewPath(), unchanged, unchanged));
+            } else {
+                gitChanges.add(toGitChange(diff));
+            }
+        }
+        return gitChanges;
+    }
+
+    private List<GitChange> toGitChanges(final List<DiffEntry> diffs) throws IOException {
+        List<GitChange> gitChanges = new ArrayList<>(diffs.size());
+        for (DiffEntry diff : diffs) {
+            gitChanges.add(toGitChange(diff));
+        }
+        return gitChanges;
+    }
+
+    /*
+     * With churn, submodules, binary and too large files count as 0 added and 0 deleted lines.
+     */
+    private GitChange toGitChange(final DiffEntry diff) throws IOException {
+        Integer linesAdded = null;
+        Integer linesDeleted = null;
+        if (policy.isChurn()) {
+            int added = 0;
+            int deleted = 0;
+            if (!isSubmodule(diff) && !isTooLarge(diff.getOldId()) && !isTooLarge(diff.getNewId())) {
+                FileHeader fileHeader = diffFormatter.toFileHeader(diff);
+                // binary files come without edits
+                if (fileHeader.getPatchType() == FileHeader.PatchType.UNIFIED) {
+                    for (Edit edit : fileHeader.toEditList()) {
+                        added += edit.getLengthB();
+                        deleted += edit.getLengthA();
+                    }
+                }
+            }
+            linesAdded = added;
+            linesDeleted = deleted;
+        }
+        return toGitChange(diff.getChangeType().name(), diff.getOldPath(), diff.getNewPath(), linesAdded, linesDeleted);
+    }
+
+    private boolean isTooLarge(final AbbreviatedObjectId id) throws IOException {
+        if (!id.isComplete() || ObjectId.zeroId().equals(id.toObjectId())) {
+            return false;
+        }
+        return reader.getObjectSize(id.toObjectId(), Constants.OBJ_BLOB) > policy.getChurnMaxBlobSize();
+    }
+
+    private static boolean isSubmodule(final DiffEntry diff) {
+        return diff.getOldMode() == FileMode.GITLINK || diff.getNewMode() == FileMode.GITLINK;
+    }
+
+    private GitChange toGitChange(final String changeType, final String oldPath, final String newPath, final Integer linesAdded, final Integer linesDeleted) {
+        final GitChange gitChange = new GitChange(changeType, oldPath, newPath, linesAdded, linesDeleted);
+        LOGGER.debug(gitChange.toString());
+        return gitChange;
+    }
+
+    @Override
+    public void close() {
+        diffFormatter.close();
+        reader.close();
+    }
+}
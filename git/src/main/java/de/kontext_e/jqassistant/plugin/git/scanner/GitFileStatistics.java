@@ -0,0 +1,57 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.BitSet;
+
+/**
+ * Sums up the changes of a single file while the history is imported, so hotspot analyses can read them from
+ * the file instead of traversing all of its changes.
+ */
+class GitFileStatistics {
+    private int changes = 0;
+    // indexes of the authors, see GitRepositoryScanner
+    private final BitSet authors = new BitSet();
+    private long firstChangeAtEpoch = Long.MAX_VALUE;
+    private long lastChangeAtEpoch = Long.MIN_VALUE;
+    private Integer linesAdded = null;
+    private Integer linesDeleted = null;
+
+    void addChange(final long epoch, final int author, final Integer linesAdded, final Integer linesDeleted) {
+        changes++;
+        if (author >= 0) {
+            authors.set(author);
+        }
+        firstChangeAtEpoch = Math.min(firstChangeAtEpoch, epoch);
+        lastChangeAtEpoch = Math.max(lastChangeAtEpoch, epoch);
+        if (linesAdded != null) {
+            this.linesAdded = (this.linesAdded != null ? this.linesAdded : 0) + linesAdded;
+            this.linesDeleted = (this.linesDeleted != null ? this.linesDeleted : 0) + linesDeleted;
+        }
+    }
+
+    int getChanges() {
+        return changes;
+    }
+
+    int getAuthors() {
+        return authors.cardinality();
+    }
+
+    long getFirstChangeAtEpoch() {
+        return firstChangeAtEpoch;
+    }
+
+    long getLastChangeAtEpoch() {
+        return lastChangeAtEpoch;
+    }
+
+    /**
+     * @return Sum of the added lines of the changes whose lines were counted or null, if none was counted.
+     */
+    Integer getLinesAdded() {
+        return linesAdded;
+    }
+
+    Integer getLinesDeleted() {
+        return linesDeleted;
+    }
+}
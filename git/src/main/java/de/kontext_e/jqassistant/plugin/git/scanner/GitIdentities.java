@@ -0,0 +1,70 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jgit.lib.PersonIdent;
+
+/**
+ * Interns the identities of the authors and committers of a repository.
+ *
+ * Every name and email pair of the history is resolved once: the mailmap is applied and the ident string is built,
+ * all later commits of the same person get the very same {@link GitIdentity}. The raw identities, as they are
+ * written in the commits, are interned as well, so the blame results can be cached independent of the mailmap.
+ *
+ * Thread safe.
+ */
+class GitIdentities {
+    private final GitMailmap mailmap;
+    // name -> email -> raw identity
+    private final Map<String, Map<String, GitIdentity>> rawIdentities = new ConcurrentHashMap<>();
+    // raw identity -> proper identity
+    private final Map<GitIdentity, GitIdentity> properIdentities = new ConcurrentHashMap<>();
+    // ident string -> proper identity, so identities mapped to the same person share one instance
+    private final Map<String, GitIdentity> identities = new ConcurrentHashMap<>();
+
+    GitIdentities(final GitMailmap mailmap) {
+        this.mailmap = mailmap;
+    }
+
+    /**
+     * @return The proper identity of the person.
+     */
+    GitIdentity get(final PersonIdent personIdent) {
+        return get(getRaw(personIdent));
+    }
+
+    /**
+     * @return The proper identity of the raw identity.
+     */
+    GitIdentity get(final GitIdentity rawIdentity) {
+        return properIdentities.computeIfAbsent(rawIdentity, raw -> {
+            GitIdentity mapped = mailmap.map(raw);
+            return identities.computeIfAbsent(mapped.getIdentString(), identString -> mapped);
+        });
+    }
+
+    /**
+     * @return The identity as written in the commit, without the mailmap applied.
+     */
+    GitIdentity getRaw(final PersonIdent personIdent) {
+        return getRaw(personIdent.getName(), personIdent.getEmailAddress());
+    }
+
+    GitIdentity getRaw(final String name, final String email) {
+        return rawIdentities.computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(email, key -> new GitIdentity(name, email));
+    }
+
+    /**
+     * @param identString 'name &lt;email&gt;' as written in the commit.
+     * @return The identity as written in the commit, without the mailmap applied.
+     */
+    GitIdentity parseRaw(final String identString) {
+        int open = identString.lastIndexOf('<');
+        int close = identString.lastIndexOf('>');
+        if (open < 0 || close < open) {
+            return getRaw(identString.trim(), "");
+        }
+        return getRaw(identString.substring(0, open).trim(), identString.substring(open + 1, close).trim());
+    }
+}
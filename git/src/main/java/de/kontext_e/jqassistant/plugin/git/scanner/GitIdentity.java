@@ -0,0 +1,53 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+/**
+ * Name and email of an author or committer.
+ *
+ * Identities are interned by {@link GitIdentities}, so the commits of a person share one instance and its ident
+ * string is built only once.
+ */
+public class GitIdentity {
+    private final String name;
+    private final String email;
+    private final String identString;
+
+    GitIdentity(final String name, final String email) {
+        this.name = name;
+        this.email = email;
+        this.identString = name + " <" + email + ">";
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * @return 'name &lt;email&gt;'
+     */
+    public String getIdentString() {
+        return identString;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final GitIdentity that = (GitIdentity) o;
+        return identString.equals(that.identString);
+    }
+
+    @Override
+    public int hashCode() {
+        return identString.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return identString;
+    }
+}
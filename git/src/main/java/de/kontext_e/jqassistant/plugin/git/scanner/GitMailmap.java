@@ -0,0 +1,136 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The '.mailmap' of a repository, which maps the names and emails people used in their commits to the proper ones.
+ *
+ * Supports the forms described in 'git help shortlog':
+ * <pre>
+ * Proper Name &lt;commit@email.xx&gt;
+ * &lt;proper@email.xx&gt; &lt;commit@email.xx&gt;
+ * Proper Name &lt;proper@email.xx&gt; &lt;commit@email.xx&gt;
+ * Proper Name &lt;proper@email.xx&gt; Commit Name &lt;commit@email.xx&gt;
+ * </pre>
+ * Emails and commit names are compared case insensitive, later lines win.
+ */
+class GitMailmap {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitMailmap.class);
+
+    static final GitMailmap EMPTY = new GitMailmap();
+
+    private static final String MAILMAP = ".mailmap";
+
+    private static class Mapping {
+        private String name;
+        private String email;
+        private final Map<String, Mapping> byCommitName = new HashMap<>();
+    }
+
+    // commit email in lower case -> mapping
+    private final Map<String, Mapping> byCommitEmail = new HashMap<>();
+
+    /**
+     * Reads the '.mailmap' committed at HEAD, like 'git log --use-mailmap' does in a bare repository.
+     *
+     * @return The mailmap or {@link #EMPTY}, if the repository has none.
+     */
+    static GitMailmap read(final Repository repository) throws IOException {
+        ObjectId head = repository.resolve(Constants.HEAD);
+        if (null == head) {
+            return EMPTY;
+        }
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            RevCommit commit = revWalk.parseCommit(head);
+            try (TreeWalk treeWalk = TreeWalk.forPath(repository, MAILMAP, commit.getTree())) {
+                if (null == treeWalk) {
+                    return EMPTY;
+                }
+                byte[] content = repository.open(treeWalk.getObjectId(0), Constants.OBJ_BLOB).getCachedBytes();
+                GitMailmap mailmap = parse(new String(content, Constants.CHARSET));
+                LOGGER.debug("Using the {} emails of the mailmap", mailmap.byCommitEmail.size());
+                return mailmap;
+            }
+        }
+    }
+
+    static GitMailmap parse(final String content) {
+        GitMailmap mailmap = new GitMailmap();
+        for (String line : content.split("\r?\n")) {
+            mailmap.parseLine(line.trim());
+        }
+        return mailmap;
+    }
+
+    private void parseLine(final String line) {
+        if (line.isEmpty() || line.startsWith("#")) {
+            return;
+        }
+        int firstOpen = line.indexOf('<');
+        int firstClose = line.indexOf('>', firstOpen + 1);
+        if (firstOpen < 0 || firstClose < 0) {
+            LOGGER.debug("Ignoring mailmap line '{}'", line);
+            return;
+        }
+        String properName = emptyToNull(line.substring(0, firstOpen).trim());
+        String email = line.substring(firstOpen + 1, firstClose).trim();
+
+        int secondOpen = line.indexOf('<', firstClose + 1);
+        int secondClose = line.indexOf('>', secondOpen + 1);
+        if (secondOpen < 0 || secondClose < 0) {
+            // 'Proper Name <commit@email.xx>'
+            addMapping(properName, null, null, email);
+            return;
+        }
+        String commitName = emptyToNull(line.substring(firstClose + 1, secondOpen).trim());
+        String commitEmail = line.substring(secondOpen + 1, secondClose).trim();
+        addMapping(properName, emptyToNull(email), commitName, commitEmail);
+    }
+
+    private void addMapping(final String properName, final String properEmail, final String commitName, final String commitEmail) {
+        Mapping mapping = byCommitEmail.computeIfAbsent(commitEmail.toLowerCase(Locale.ENGLISH), key -> new Mapping());
+        if (null != commitName) {
+            mapping = mapping.byCommitName.computeIfAbsent(commitName.toLowerCase(Locale.ENGLISH), key -> new Mapping());
+        }
+        if (null != properName) {
+            mapping.name = properName;
+        }
+        if (null != properEmail) {
+            mapping.email = properEmail;
+        }
+    }
+
+    /**
+     * @return The proper identity or the given one, if it is not mapped.
+     */
+    GitIdentity map(final GitIdentity identity) {
+        Mapping mapping = byCommitEmail.get(identity.getEmail().toLowerCase(Locale.ENGLISH));
+        if (null == mapping) {
+            return identity;
+        }
+        Mapping nameMapping = mapping.byCommitName.get(identity.getName().toLowerCase(Locale.ENGLISH));
+        if (null != nameMapping) {
+            mapping = nameMapping;
+        }
+        if (null == mapping.name && null == mapping.email) {
+            return identity;
+        }
+        return new GitIdentity(null != mapping.name ? mapping.name : identity.getName(),
+                               null != mapping.email ? mapping.email : identity.getEmail());
+    }
+
+    private static String emptyToNull(final String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,20 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The branches and tags of a repository, read in one pass over its refs.
+ */
+class GitRefs {
+    private final List<GitBranch> branches = new ArrayList<>();
+    private final List<GitTag> tags = new ArrayList<>();
+
+    List<GitBranch> getBranches() {
+        return branches;
+    }
+
+    List<GitTag> getTags() {
+        return tags;
+    }
+}
@@ -1,20 +1,29 @@
 package de.kontext_e.jqassistant.plugin.git.scanner;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+import com.buschmais.xo.api.Query;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitAuthorDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitAuthorshipDescriptor;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitBranchDescriptor;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitChangeDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitCoChangeDescriptor;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitCommitDescriptor;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitFileDescriptor;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitRepositoryDescriptor;
@@ -27,136 +36,564 @@ class GitRepositoryScanner {
     private static final DateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss Z");
     private static final DateFormat DATE_TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss Z");
 
+    private static final int PARENT_BATCH_SIZE = 10000;
+    private static final String CREATE_PARENTS = "UNWIND {parents} AS parent " +
+                                                 "MATCH (commit:Git:Commit), (parentCommit:Git:Commit) " +
+                                                 "WHERE id(commit) = parent.commit AND id(parentCommit) = parent.parent " +
+                                                 "CREATE (commit)-[:HAS_PARENT]->(parentCommit)";
+    private static final String FIND_NODE = "MATCH (node) WHERE id(node) = {id} RETURN node";
+    private static final String FIND_KNOWN_COMMITS = "MATCH (repository:Git:Repository)-[:HAS_COMMIT]->(commit:Git:Commit) " +
+                                                     "WHERE id(repository) = {repository} " +
+                                                     "RETURN commit.sha AS sha, id(commit) AS id";
+    private static final String FIND_KNOWN_HEADS = "MATCH (repository:Git:Repository)-[:HAS_BRANCH|HAS_TAG]->()-[:HAS_HEAD|ON_COMMIT]->(commit:Git:Commit) " +
+                                                   "WHERE id(repository) = {repository} " +
+                                                   "RETURN commit.sha AS sha " +
+                                                   "UNION " +
+                                                   "MATCH (repository:Git:Repository)-[:HAS_HEAD]->(commit:Git:Commit) " +
+                                                   "WHERE id(repository) = {repository} " +
+                                                   "RETURN commit.sha AS sha";
+    private static final String DELETE_AUTHORSHIPS = "MATCH (repository:Git:Repository)-[:HAS_FILE]->(:Git:File)-[authorship:AUTHORED_BY]->(:Git:Author) " +
+                                                     "WHERE id(repository) = {repository} " +
+                                                     "DELETE authorship";
+    private static final String COUNT_FILE_AUTHORS = "UNWIND {files} AS fileId " +
+                                                     "MATCH (file:Git:File)<-[:MODIFIES]-(:Git:Change)<-[:CONTAINS_CHANGE]-(:Git:Commit)<-[:COMMITTED]-(author:Git:Author) " +
+                                                     "WHERE id(file) = fileId " +
+                                                     "RETURN fileId AS id, count(DISTINCT author) AS authors";
+    private static final String FIND_CO_CHANGES = "UNWIND {files} AS fileId " +
+                                                  "MATCH (file:Git:File)-[coChange:CHANGED_WITH]->(coChangedFile:Git:File) " +
+                                                  "WHERE id(file) = fileId " +
+                                                  "RETURN file.relativePath AS file, coChangedFile.relativePath AS coChangedFile, id(coChange) AS id";
+    private static final String ADD_CO_CHANGES = "UNWIND {coChanges} AS coChange " +
+                                                 "MATCH ()-[relation:CHANGED_WITH]->() " +
+                                                 "WHERE id(relation) = coChange.id " +
+                                                 "SET relation.commits = relation.commits + coChange.commits";
+    private static final String DELETE_NODE = "MATCH (node) WHERE id(node) = {id} DETACH DELETE node";
+
     private final Store store;
+    private final GitStoreWriter storeWriter;
     private final GitRepositoryDescriptor gitRepositoryDescriptor;
-    private String range;
+    private final String gitDirectory;
+    private final GitScannerConfiguration configuration;
+    // ident string/relative path -> node id of every author/file, the descriptors are only kept for the current batch
+    private final Map<String, Object> authorIds = new HashMap<>();
+    private final Map<String, Object> fileIds = new HashMap<>();
     private final Map<String, GitAuthorDescriptor> authors = new HashMap<>();
     private final Map<String, GitFileDescriptor> files = new HashMap<>();
-    private final Map<String, GitCommitDescriptor> commits = new HashMap<>();
-    private final List<GitCommit> gitCommits = new ArrayList<>();
+    // sha -> node id of every imported commit
+    private final ShaIndex commits = new ShaIndex();
+    private int commitsInBatch = 0;
+    private final Map<String, GitBranchDescriptor> knownBranches = new HashMap<>();
+    private final Map<String, GitTagDescriptor> knownTags = new HashMap<>();
+    // sha of a parent not imported yet -> node ids of its imported children, resolved when the parent comes along
+    private final PendingParents pendingParents = new PendingParents();
+    // node ids of the commits and parents whose relation is not written yet
+    private List<Map<String, Object>> parents = new ArrayList<>();
+    // relative path -> changes of the file in the imported commits, written when the whole history has been walked
+    private final Map<String, GitFileStatistics> fileStatistics = new HashMap<>();
+    private final Map<String, Integer> authorIndexes = new HashMap<>();
+    // relative path <-> index of every file in the co-changed pairs
+    private final Map<String, Integer> fileIndexes = new HashMap<>();
+    private final List<String> filePaths = new ArrayList<>();
+    private final PairCounter coChanges = new PairCounter();
+
+    GitRepositoryScanner(final Store store, final GitRepositoryDescriptor gitRepositoryDescriptor, final GitScannerConfiguration configuration) {
+        this(store, new GitStoreWriter(), gitRepositoryDescriptor, configuration);
+    }
 
-    GitRepositoryScanner(final Store store, final GitRepositoryDescriptor gitRepositoryDescriptor, final String range) {
+    /**
+     * Must be created on the scanning thread. {@link #scanGitRepo()} may run on any thread, everything touching
+     * the store is handed over to the store writer.
+     */
+    GitRepositoryScanner(final Store store, final GitStoreWriter storeWriter, final GitRepositoryDescriptor gitRepositoryDescriptor, final GitScannerConfiguration configuration) {
         this.store = store;
+        this.storeWriter = storeWriter;
         this.gitRepositoryDescriptor = gitRepositoryDescriptor;
-        this.range = range;
+        this.gitDirectory = gitRepositoryDescriptor.getFileName();
+        this.configuration = configuration;
     }
 
     void scanGitRepo() throws IOException {
-        JGitScanner jGitScanner = new JGitScanner(gitRepositoryDescriptor.getFileName(), range);
+        List<String> knownHeads = new ArrayList<>();
+        if (configuration.isIncremental()) {
+            knownHeads = storeWriter.call(this::loadKnownHistory);
+        }
 
-        gitCommits.addAll(jGitScanner.findCommits());
+        try (JGitScanner jGitScanner = new JGitScanner(gitDirectory, configuration)) {
+            GitDiffPolicy diffPolicy = jGitScanner.getDiffPolicy();
+            storeWriter.execute(() -> setDiffPolicy(diffPolicy));
+            jGitScanner.walkCommits(knownHeads, gitCommit -> write(() -> addCommit(gitCommit)));
+            storeWriter.execute(this::addParents);
+            storeWriter.execute(this::addFileStatistics);
+            if (configuration.isCoChange()) {
+                storeWriter.execute(this::addCoChanges);
+            }
 
-        addCommits();
-        addBranches(jGitScanner.findBranches());
-        addTags(jGitScanner.findTags());
+            GitRefs refs = jGitScanner.findRefs();
+            storeWriter.execute(() -> addBranches(refs.getBranches()));
+            storeWriter.execute(() -> addTags(refs.getTags()));
 
-        authors.values().forEach(gitAuthor -> gitRepositoryDescriptor.getAuthors().add(gitAuthor));
-        files.values().forEach(gitFile -> gitRepositoryDescriptor.getFiles().add(gitFile));
+            GitBranch head = jGitScanner.findHead();
+            storeWriter.execute(() -> gitRepositoryDescriptor.setHead(findCommit(head.getCommitSha())));
 
-        GitBranch head = jGitScanner.findHead();
-        GitCommitDescriptor headDescriptor = commits.get(head.getCommitSha());
-        gitRepositoryDescriptor.setHead(headDescriptor);
+            if (configuration.getBlameFiles() != null) {
+                // the lines of a former scan belong to another HEAD
+                storeWriter.execute(() -> store.executeQuery(DELETE_AUTHORSHIPS, Collections.singletonMap("repository", gitRepositoryDescriptor.getId())).close());
+                jGitScanner.blameFiles(gitBlame -> write(() -> addAuthorships(gitBlame)));
+            }
+        }
     }
 
-    private void addCommits() {
-        // First pass: Add the commits to the graph
-        for (GitCommit gitCommit : gitCommits) {
-            GitCommitDescriptor gitCommitDescriptor = store.create(GitCommitDescriptor.class);
-            String sha = gitCommit.getSha();
-            LOGGER.debug ("Adding new Commit '{}'", sha);
-            commits.put(sha, gitCommitDescriptor);
+    /*
+     * For the consumers of the history walk and the blame stage, which cannot throw checked exceptions.
+     */
+    private void write(final Runnable write) {
+        try {
+            storeWriter.execute(write);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Tell analyses how complete the recorded changes are.
+     */
+    private void setDiffPolicy(final GitDiffPolicy diffPolicy) {
+        gitRepositoryDescriptor.setRenameDetection(diffPolicy.getRenameDetection().name().toLowerCase(Locale.ENGLISH));
+        gitRepositoryDescriptor.setRenameLimit(diffPolicy.getRenameLimit());
+        gitRepositoryDescriptor.setDiffMaxFiles(diffPolicy.getMaxFiles());
+        gitRepositoryDescriptor.setFirstParentDiff(diffPolicy.isFirstParent());
+    }
 
-            gitCommitDescriptor.setSha(gitCommit.getSha());
+    /*
+     * Incremental scan: Pick up the commits, files, authors, branches and tags of a former scan of this repository.
+     * Returns the commits the former scan ended with; the history walk stops there.
+     */
+    private List<String> loadKnownHistory() {
+        Map<String, Object> parameters = Collections.singletonMap("repository", gitRepositoryDescriptor.getId());
+        try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(FIND_KNOWN_COMMITS, parameters)) {
+            for (Query.Result.CompositeRowObject row : result) {
+                commits.put(row.get("sha", String.class), row.get("id", Long.class));
+            }
+        }
+        gitRepositoryDescriptor.getFiles().forEach(gitFile -> fileIds.put(gitFile.getRelativePath(), gitFile.getId()));
+        gitRepositoryDescriptor.getAuthors().forEach(gitAuthor -> authorIds.put(gitAuthor.getIdentString(), gitAuthor.getId()));
+        gitRepositoryDescriptor.getBranches().forEach(gitBranch -> knownBranches.put(gitBranch.getName(), gitBranch));
+        gitRepositoryDescriptor.getTags().forEach(gitTag -> knownTags.put(gitTag.getLabel(), gitTag));
+
+        List<String> knownHeads = new ArrayList<>();
+        try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(FIND_KNOWN_HEADS, parameters)) {
+            for (Query.Result.CompositeRowObject row : result) {
+                knownHeads.add(row.get("sha", String.class));
+            }
+        }
+        if (!commits.isEmpty()) {
+            LOGGER.info ("Git repository '{}' already contains {} commits, importing only newer ones", gitDirectory, commits.size());
+        }
+        return knownHeads;
+    }
+
+    /*
+     * First pass: Add a single commit to the graph as soon as it comes out of the history walk.
+     */
+    private void addCommit(final GitCommit gitCommit) {
+        String sha = gitCommit.getSha();
+        if (commits.contains(sha)) {
+            LOGGER.debug ("Commit '{}' is already known", sha);
+            return;
+        }
+        GitCommitDescriptor gitCommitDescriptor = store.create(GitCommitDescriptor.class);
+        LOGGER.debug ("Adding new Commit '{}'", sha);
+        long commitId = gitCommitDescriptor.<Long>getId();
+        commits.put(sha, commitId);
+
+        gitCommitDescriptor.setSha(gitCommit.getSha());
+        if (configuration.isIdentStrings()) {
             gitCommitDescriptor.setAuthor(gitCommit.getAuthor());
             gitCommitDescriptor.setCommitter(gitCommit.getCommitter());
-            gitCommitDescriptor.setDate(DATE_FORMAT.format(gitCommit.getDate()));
-            gitCommitDescriptor.setMessage(gitCommit.getMessage());
-            gitCommitDescriptor.setShortMessage(gitCommit.getShortMessage());
-            gitCommitDescriptor.setEpoch(gitCommit.getDate().getTime());
-            gitCommitDescriptor.setTime(TIME_FORMAT.format(gitCommit.getDate()));
-            gitCommitDescriptor.setEncoding(gitCommit.getEncoding());
-            gitRepositoryDescriptor.getCommits().add(gitCommitDescriptor);
-
-            addCommitForAuthor(authors, gitCommit.getAuthor(), gitCommitDescriptor);
-
-            addCommitFiles(gitCommit, gitCommitDescriptor, files);
-        }
-
-        // Second pass: Add the parents to the graph
-        for (GitCommit gitCommit : gitCommits) {
-            String sha = gitCommit.getSha();
-            GitCommitDescriptor gitCommitDescriptor = commits.get(sha);
-            for (GitCommit parent : gitCommit.getParents()) {
-                String parentSha = parent.getSha();
-                GitCommitDescriptor parentCommit = commits.get(parentSha);
-                if (null == parentCommit) {
-                    LOGGER.warn ("Cannot add (parent) commit with SHA '{}' (excluded by range?)", parentSha);
-                } else {
-                    gitCommitDescriptor.getParents().add(parentCommit);
+        }
+        gitCommitDescriptor.setDate(DATE_FORMAT.format(gitCommit.getDate()));
+        gitCommitDescriptor.setMessage(gitCommit.getMessage());
+        gitCommitDescriptor.setShortMessage(gitCommit.getShortMessage());
+        gitCommitDescriptor.setEpoch(gitCommit.getDate().getTime());
+        gitCommitDescriptor.setTime(TIME_FORMAT.format(gitCommit.getDate()));
+        gitCommitDescriptor.setEncoding(gitCommit.getEncoding());
+        gitRepositoryDescriptor.getCommits().add(gitCommitDescriptor);
+
+        addCommitForAuthor(authors, gitCommit.getAuthorIdentity(), gitCommitDescriptor);
+        if (null != gitCommit.getCommitterIdentity()) {
+            gitCommitDescriptor.setCommittedBy(getOrCreateGitAuthorDescriptor(authors, gitCommit.getCommitterIdentity()));
+        }
+
+        addCommitFiles(gitCommit, gitCommitDescriptor, files);
+        if (configuration.isCoChange()) {
+            countCoChanges(gitCommit);
+        }
+
+        relateParents(gitCommit, commitId);
+
+        commitsInBatch++;
+        if (configuration.getBatchSize() > 0 && commitsInBatch >= configuration.getBatchSize()) {
+            flush();
+        }
+    }
+
+    /*
+     * Commit what was written so far and start over with a fresh transaction. The descriptors of the finished
+     * batch are dropped, later batches refer to authors and files by their node ids.
+     */
+    private void flush() {
+        writeParents();
+        LOGGER.debug ("Committing the store");
+        store.commitTransaction();
+        store.beginTransaction();
+        authors.clear();
+        files.clear();
+        commitsInBatch = 0;
+    }
+
+    /*
+     * Relate the commit to its parents and the children walked before it to the commit. Parents that are not
+     * imported yet are remembered until the walk reaches them.
+     */
+    private void relateParents(final GitCommit gitCommit, final long commitId) {
+        pendingParents.remove(gitCommit.getSha(), childId -> addParent(childId, commitId));
+        for (GitCommit parent : gitCommit.getParents()) {
+            long parentId = commits.get(parent.getSha());
+            if (ShaIndex.NOT_FOUND == parentId) {
+                pendingParents.add(parent.getSha(), commitId);
+            } else {
+                addParent(commitId, parentId);
+            }
+        }
+    }
+
+    private void addParent(final long commitId, final long parentId) {
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("commit", commitId);
+        parent.put("parent", parentId);
+        parents.add(parent);
+        if (parents.size() >= PARENT_BATCH_SIZE) {
+            writeParents();
+        }
+    }
+
+    private void writeParents() {
+        if (!parents.isEmpty()) {
+            store.executeQuery(CREATE_PARENTS, Collections.singletonMap("parents", parents)).close();
+            parents = new ArrayList<>();
+        }
+    }
+
+    /*
+     * Second pass: Write the remaining parents. Parents still missing now were not walked at all.
+     */
+    private void addParents() {
+        writeParents();
+        pendingParents.forEach((parentSha, childId) -> LOGGER.warn ("Cannot add (parent) commit with SHA '{}' (excluded by range?)", parentSha));
+        pendingParents.clear();
+    }
+
+    /*
+     * Third pass: Add the sums of the changes to the files. An incremental scan adds them to the ones of the former
+     * scans, only the distinct authors are counted again from the whole history in the store.
+     */
+    private void addFileStatistics() {
+        List<Object> touchedFiles = new ArrayList<>();
+        int filesInBatch = 0;
+        for (Map.Entry<String, GitFileStatistics> entry : fileStatistics.entrySet()) {
+            GitFileDescriptor gitFile = getOrCreateGitFileDescriptor(files, entry.getKey());
+            GitFileStatistics statistics = entry.getValue();
+            if (null == gitFile.getChangeCount()) {
+                gitFile.setChangeCount(statistics.getChanges());
+                gitFile.setAuthorCount(statistics.getAuthors());
+                gitFile.setFirstChangeAtEpoch(statistics.getFirstChangeAtEpoch());
+                gitFile.setLastChangeAtEpoch(statistics.getLastChangeAtEpoch());
+                gitFile.setLinesAdded(statistics.getLinesAdded());
+                gitFile.setLinesDeleted(statistics.getLinesDeleted());
+            } else {
+                gitFile.setChangeCount(gitFile.getChangeCount() + statistics.getChanges());
+                gitFile.setFirstChangeAtEpoch(Math.min(gitFile.getFirstChangeAtEpoch(), statistics.getFirstChangeAtEpoch()));
+                gitFile.setLastChangeAtEpoch(Math.max(gitFile.getLastChangeAtEpoch(), statistics.getLastChangeAtEpoch()));
+                gitFile.setLinesAdded(sum(gitFile.getLinesAdded(), statistics.getLinesAdded()));
+                gitFile.setLinesDeleted(sum(gitFile.getLinesDeleted(), statistics.getLinesDeleted()));
+                touchedFiles.add(gitFile.getId());
+            }
+            filesInBatch++;
+            if (configuration.getBatchSize() > 0 && filesInBatch >= configuration.getBatchSize()) {
+                flush();
+                filesInBatch = 0;
+            }
+        }
+        fileStatistics.clear();
+
+        for (int from = 0; from < touchedFiles.size(); from += PARENT_BATCH_SIZE) {
+            List<Object> batch = touchedFiles.subList(from, Math.min(from + PARENT_BATCH_SIZE, touchedFiles.size()));
+            try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(COUNT_FILE_AUTHORS, Collections.singletonMap("files", batch))) {
+                for (Query.Result.CompositeRowObject row : result) {
+                    findNode(row.get("id", Long.class), GitFileDescriptor.class).setAuthorCount(row.get("authors", Long.class).intValue());
                 }
             }
         }
     }
 
-    private void addBranches(List<GitBranch> branches) throws IOException {
+    /*
+     * Count every pair of files changed by the commit. Large commits (mass reformatting, moves) tell nothing
+     * about the coupling of their files and would add quadratically many pairs, so they are skipped.
+     */
+    private void countCoChanges(final GitCommit gitCommit) {
+        List<String> changedFiles = new ArrayList<>(new LinkedHashSet<>(gitCommit.getGitChanges().stream()
+                                                                                  .map(GitChange::getRelativePath)
+                                                                                  .collect(Collectors.toList())));
+        if (changedFiles.size() > configuration.getCoChangeMaxFiles()) {
+            LOGGER.debug ("Not counting the {} co-changed files of commit '{}'", changedFiles.size(), gitCommit.getSha());
+            return;
+        }
+        int[] indexes = changedFiles.stream().mapToInt(this::getFileIndex).toArray();
+        for (int i = 0; i < indexes.length; i++) {
+            for (int j = i + 1; j < indexes.length; j++) {
+                coChanges.increment(indexes[i], indexes[j]);
+            }
+        }
+    }
+
+    private int getFileIndex(final String relativePath) {
+        return fileIndexes.computeIfAbsent(relativePath, path -> {
+            filePaths.add(path);
+            return filePaths.size() - 1;
+        });
+    }
+
+    /*
+     * Fourth pass: Relate the files changed together by at least the minimum number of commits, from the smaller
+     * relative path to the greater one. An incremental scan adds its counts to the relations of the former scans,
+     * it only looks at the relations of the files it has counted. The pairs below the minimum are not kept, so a
+     * pair that stayed below it in every scan is not related, even if the whole history would reach it.
+     */
+    private void addCoChanges() {
+        Map<String, Object> knownCoChanges = configuration.isIncremental() ? findCoChanges() : Collections.emptyMap();
+        List<Map<String, Object>> addedCommits = new ArrayList<>();
+        int[] pairsInBatch = {0};
+        coChanges.forEach((first, second, commitCount) -> {
+            String path = filePaths.get(first);
+            String coChangedPath = filePaths.get(second);
+            if (path.compareTo(coChangedPath) > 0) {
+                path = coChangedPath;
+                coChangedPath = filePaths.get(first);
+            }
+            Object knownCoChange = knownCoChanges.get(path + '\n' + coChangedPath);
+            if (null != knownCoChange) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("id", knownCoChange);
+                row.put("commits", commitCount);
+                addedCommits.add(row);
+            } else if (commitCount >= configuration.getCoChangeMinSupport()) {
+                GitFileDescriptor gitFile = getOrCreateGitFileDescriptor(files, path);
+                GitFileDescriptor coChangedFile = getOrCreateGitFileDescriptor(files, coChangedPath);
+                store.create(gitFile, GitCoChangeDescriptor.class, coChangedFile).setCommits(commitCount);
+            } else {
+                return;
+            }
+            pairsInBatch[0]++;
+            if (configuration.getBatchSize() > 0 && pairsInBatch[0] >= configuration.getBatchSize()) {
+                flush();
+                pairsInBatch[0] = 0;
+            }
+        });
+        for (int from = 0; from < addedCommits.size(); from += PARENT_BATCH_SIZE) {
+            List<Map<String, Object>> batch = addedCommits.subList(from, Math.min(from + PARENT_BATCH_SIZE, addedCommits.size()));
+            store.executeQuery(ADD_CO_CHANGES, Collections.singletonMap("coChanges", batch)).close();
+        }
+    }
+
+    /*
+     * The relations between the files counted by this scan, by their relative paths, to the id of the relation.
+     */
+    private Map<String, Object> findCoChanges() {
+        Map<String, Object> knownCoChanges = new HashMap<>();
+        List<Object> countedFiles = new ArrayList<>();
+        for (String relativePath : filePaths) {
+            countedFiles.add(fileIds.get(relativePath));
+        }
+        for (int from = 0; from < countedFiles.size(); from += PARENT_BATCH_SIZE) {
+            List<Object> batch = countedFiles.subList(from, Math.min(from + PARENT_BATCH_SIZE, countedFiles.size()));
+            try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(FIND_CO_CHANGES, Collections.singletonMap("files", batch))) {
+                for (Query.Result.CompositeRowObject row : result) {
+                    String path = row.get("file", String.class);
+                    String coChangedPath = row.get("coChangedFile", String.class);
+                    if (fileIndexes.containsKey(coChangedPath)) {
+                        knownCoChanges.put(path + '\n' + coChangedPath, row.get("id", Long.class));
+                    }
+                }
+            }
+        }
+        return knownCoChanges;
+    }
+
+    private static Integer sum(final Integer lines, final Integer moreLines) {
+        if (null == lines) {
+            return moreLines;
+        }
+        return null == moreLines ? lines : lines + moreLines;
+    }
+
+    private GitCommitDescriptor findCommit(final String sha) {
+        long id = commits.get(sha);
+        return ShaIndex.NOT_FOUND != id ? findNode(id, GitCommitDescriptor.class) : null;
+    }
+
+    private <D extends Descriptor> D findNode(final Object id, final Class<D> type) {
+        if (null == id) {
+            return null;
+        }
+        try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(FIND_NODE, Collections.singletonMap("id", id))) {
+            return result.hasResult() ? result.getSingleResult().get("node", type) : null;
+        }
+    }
+
+    private void addBranches(List<GitBranch> branches) {
         for (GitBranch gitBranch : branches) {
-            GitBranchDescriptor gitBranchDescriptor = store.create(GitBranchDescriptor.class);
             String name = gitBranch.getName();
             name = name.replaceFirst("refs/", "");
             String sha = gitBranch.getCommitSha();
-            LOGGER.debug ("Adding new Branch '{}' with Head '{}'", name, sha);
-            gitBranchDescriptor.setName(name);
-            GitCommitDescriptor gitCommitDescriptor = commits.get(sha);
+            GitBranchDescriptor gitBranchDescriptor = knownBranches.remove(name);
+            if (null == gitBranchDescriptor) {
+                LOGGER.debug ("Adding new Branch '{}' with Head '{}'", name, sha);
+                gitBranchDescriptor = store.create(GitBranchDescriptor.class);
+                gitBranchDescriptor.setName(name);
+                gitRepositoryDescriptor.getBranches().add(gitBranchDescriptor);
+            } else {
+                LOGGER.debug ("Moving Branch '{}' to Head '{}'", name, sha);
+            }
+            GitCommitDescriptor gitCommitDescriptor = findCommit(sha);
             if (null == gitCommitDescriptor) {
                 LOGGER.warn ("Cannot retrieve commit '{}' for branch '{}'", sha, name);
             }
             gitBranchDescriptor.setHead(gitCommitDescriptor);
-            gitRepositoryDescriptor.getBranches().add(gitBranchDescriptor);
         }
+        for (GitBranchDescriptor removedBranch : knownBranches.values()) {
+            LOGGER.debug ("Removing Branch '{}'", removedBranch.getName());
+            deleteNode(removedBranch);
+        }
+        knownBranches.clear();
     }
 
-    private void addTags(List<GitTag> tags) throws IOException {
+    private void addTags(List<GitTag> tags) {
         for (GitTag gitTag : tags) {
-            GitTagDescriptor gitTagDescriptor = store.create(GitTagDescriptor.class);
             String label = gitTag.getLabel();
             label = label.replaceFirst("refs/tags/", "");
             String sha = gitTag.getCommitSha();
-            LOGGER.debug ("Adding new Tag '{}' with Commit '{}'", label, sha);
-            gitTagDescriptor.setLabel(label);
-            GitCommitDescriptor gitCommitDescriptor = commits.get(sha);
+            GitTagDescriptor gitTagDescriptor = knownTags.remove(label);
+            if (null == gitTagDescriptor) {
+                LOGGER.debug ("Adding new Tag '{}' with Commit '{}'", label, sha);
+                gitTagDescriptor = store.create(GitTagDescriptor.class);
+                gitTagDescriptor.setLabel(label);
+                gitRepositoryDescriptor.getTags().add(gitTagDescriptor);
+            }
+            GitCommitDescriptor gitCommitDescriptor = findCommit(sha);
             if (null == gitCommitDescriptor) {
                 LOGGER.warn ("Cannot retrieve commit '{}' for tag '{}'", sha, label);
             }
             gitTagDescriptor.setCommit(gitCommitDescriptor);
-            gitRepositoryDescriptor.getTags().add(gitTagDescriptor);
+            addTagMetadata(gitTagDescriptor, gitTag);
+        }
+        for (GitTagDescriptor removedTag : knownTags.values()) {
+            LOGGER.debug ("Removing Tag '{}'", removedTag.getLabel());
+            deleteNode(removedTag);
         }
+        knownTags.clear();
+    }
+
+    /*
+     * Lightweight tags have no metadata; a tag moved from an annotated one loses its former metadata.
+     */
+    private void addTagMetadata(final GitTagDescriptor gitTagDescriptor, final GitTag gitTag) {
+        GitIdentity tagger = gitTag.getTagger();
+        Date date = gitTag.getDate();
+        gitTagDescriptor.setTagger(null == tagger ? null : tagger.getIdentString());
+        gitTagDescriptor.setDate(null == date ? null : DATE_TIME_FORMAT.format(date));
+        gitTagDescriptor.setEpoch(null == date ? null : date.getTime());
+        gitTagDescriptor.setMessage(gitTag.getMessage());
+    }
+
+    /*
+     * Third pass: Relate the files at HEAD to the authors of their lines.
+     */
+    private void addAuthorships(final GitBlame gitBlame) {
+        GitFileDescriptor gitFileDescriptor = getOrCreateGitFileDescriptor(files, gitBlame.getRelativePath());
+        for (Map.Entry<GitIdentity, Integer> entry : gitBlame.getLinesByAuthor().entrySet()) {
+            GitAuthorDescriptor gitAuthorDescriptor = getOrCreateGitAuthorDescriptor(authors, entry.getKey());
+            GitAuthorshipDescriptor gitAuthorship = store.create(gitFileDescriptor, GitAuthorshipDescriptor.class, gitAuthorDescriptor);
+            gitAuthorship.setLines(entry.getValue());
+        }
+    }
+
+    private void deleteNode(final Descriptor descriptor) {
+        store.executeQuery(DELETE_NODE, Collections.singletonMap("id", descriptor.getId())).close();
     }
 
-    private void addCommitForAuthor(final Map<String, GitAuthorDescriptor> authors, final String author, final GitCommitDescriptor gitCommit) {
+    private void addCommitForAuthor(final Map<String, GitAuthorDescriptor> authors, final GitIdentity author, final GitCommitDescriptor gitCommit) {
         if (null != author) {
-            if(! authors.containsKey(author)) {
-                LOGGER.debug ("Adding new author '{}'", author);
-                GitAuthorDescriptor gitAuthor = store.find(GitAuthorDescriptor.class, author);
-                if (null == gitAuthor) {
-                    LOGGER.debug ("Author '{}' does not exist, have to create a new entity", author);
-                    gitAuthor = store.create(GitAuthorDescriptor.class);
-                    gitAuthor.setIdentString(author);
-                }
-                gitAuthor.setName(author.substring(0, author.indexOf("<")).trim());
-                gitAuthor.setEmail(author.substring(author.indexOf("<")+1, author.indexOf(">")).trim());
-                authors.put(author, gitAuthor);
+            getOrCreateGitAuthorDescriptor(authors, author).getCommits().add(gitCommit);
+        }
+    }
+
+    /*
+     * Authors and committers are both :Git:Author nodes, one per person of the (mailmapped) history.
+     */
+    private GitAuthorDescriptor getOrCreateGitAuthorDescriptor(final Map<String, GitAuthorDescriptor> authors, final GitIdentity author) {
+        String identString = author.getIdentString();
+        GitAuthorDescriptor gitAuthor = authors.get(identString);
+        if (null != gitAuthor) {
+            return gitAuthor;
+        }
+        Object authorId = authorIds.get(identString);
+        if (null != authorId) {
+            gitAuthor = findNode(authorId, GitAuthorDescriptor.class);
+        } else {
+            LOGGER.debug ("Adding new author '{}'", identString);
+            gitAuthor = store.find(GitAuthorDescriptor.class, identString);
+            if (null == gitAuthor) {
+                LOGGER.debug ("Author '{}' does not exist, have to create a new entity", identString);
+                gitAuthor = store.create(GitAuthorDescriptor.class);
+                gitAuthor.setIdentString(identString);
             }
-            authors.get(author).getCommits().add(gitCommit);
+            gitAuthor.setName(author.getName());
+            gitAuthor.setEmail(author.getEmail());
+            authorIds.put(identString, gitAuthor.getId());
+            gitRepositoryDescriptor.getAuthors().add(gitAuthor);
         }
+        authors.put(identString, gitAuthor);
+        return gitAuthor;
     }
 
     private void addCommitFiles(final GitCommit gitCommit, final GitCommitDescriptor gitCommitDescriptor, final Map<String, GitFileDescriptor> files) {
+        Integer linesAdded = null;
+        Integer linesDeleted = null;
         for (GitChange gitChange : gitCommit.getGitChanges()) {
             GitChangeDescriptor gitCommitFile = store.create(GitChangeDescriptor.class);
             gitCommitFile.setModificationKind(gitChange.getModificationKind());
+            if (gitChange.getLinesAdded() != null) {
+                gitCommitFile.setLinesAdded(gitChange.getLinesAdded());
+                gitCommitFile.setLinesDeleted(gitChange.getLinesDeleted());
+                linesAdded = (linesAdded != null ? linesAdded : 0) + gitChange.getLinesAdded();
+                linesDeleted = (linesDeleted != null ? linesDeleted : 0) + gitChange.getLinesDeleted();
+            }
             gitCommitDescriptor.getFiles().add(gitCommitFile);
             addAsGitFile(files, gitChange, gitCommitFile, gitCommit.getDate());
+            addFileStatistics(gitCommit, gitChange);
+        }
+        // sums of the lines of all changes, only known with churn
+        gitCommitDescriptor.setLinesAdded(linesAdded);
+        gitCommitDescriptor.setLinesDeleted(linesDeleted);
+    }
+
+    private void addFileStatistics(final GitCommit gitCommit, final GitChange gitChange) {
+        int author = -1;
+        if (null != gitCommit.getAuthor()) {
+            author = authorIndexes.computeIfAbsent(gitCommit.getAuthor(), ident -> authorIndexes.size());
         }
+        fileStatistics.computeIfAbsent(gitChange.getRelativePath(), relativePath -> new GitFileStatistics())
+                      .addChange(gitCommit.getDate().getTime(), author, gitChange.getLinesAdded(), gitChange.getLinesDeleted());
     }
 
     private void addAsGitFile(final Map<String, GitFileDescriptor> files, GitChange gitChange, final GitChangeDescriptor gitChangeDescriptor, final Date date) {
@@ -214,10 +651,16 @@ class GitRepositoryScanner {
 
     private GitFileDescriptor getOrCreateGitFileDescriptor(final Map<String, GitFileDescriptor> files, String relativePath) {
         GitFileDescriptor gitFileDescriptor = files.get(relativePath);
+        if(gitFileDescriptor == null && fileIds.containsKey(relativePath)) {
+            gitFileDescriptor = findNode(fileIds.get(relativePath), GitFileDescriptor.class);
+            files.put(relativePath, gitFileDescriptor);
+        }
         if(gitFileDescriptor == null) {
             gitFileDescriptor = store.create(GitFileDescriptor.class);
             gitFileDescriptor.setRelativePath(relativePath);
             files.put(relativePath, gitFileDescriptor);
+            fileIds.put(relativePath, gitFileDescriptor.getId());
+            gitRepositoryDescriptor.getFiles().add(gitFileDescriptor);
         }
         return gitFileDescriptor;
     }
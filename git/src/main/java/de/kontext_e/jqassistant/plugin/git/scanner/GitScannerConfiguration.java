@@ -0,0 +1,337 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The settings of a Git scan as configured by the jQAssistant properties.
+ */
+class GitScannerConfiguration {
+
+    enum MessageMode {
+        /** The full message and the short message are stored. */
+        FULL,
+        /** Only the short message (the first paragraph in one line) is stored. */
+        SHORT,
+        /** No message is stored. */
+        NONE
+    }
+
+    private String range = null;
+    private int diffThreads = 1;
+    private boolean incremental = false;
+    private File diffCacheDirectory = null;
+    private long diffCacheMaxSize = 256L * 1024 * 1024;
+    private GitDiffPolicy.RenameDetection renameDetection = GitDiffPolicy.RenameDetection.SIMILARITY;
+    private Integer renameLimit = null;
+    private int diffMaxFiles = 0;
+    private boolean firstParentDiff = false;
+    private boolean churn = false;
+    private int churnMaxBlobSize = 1024 * 1024;
+    private int batchSize = 0;
+    private String blameFiles = null;
+    private int blameThreads = Runtime.getRuntime().availableProcessors();
+    private int blameMaxBlobSize = 1024 * 1024;
+    private boolean submodules = false;
+    private int repositoryThreads = 1;
+    private int maxCommits = 0;
+    private Date since = null;
+    private List<String> paths = Collections.emptyList();
+    private boolean coChange = false;
+    private int coChangeMaxFiles = 30;
+    private int coChangeMinSupport = 2;
+    private boolean mailmap = false;
+    private boolean identStrings = true;
+    private MessageMode messageMode = MessageMode.FULL;
+    private int messageMaxLength = 0;
+
+    String getRange() {
+        return range;
+    }
+
+    void setRange(final String range) {
+        this.range = range;
+    }
+
+    /**
+     * @return Number of threads computing the changes of the commits. With 1 everything runs on the scanning thread.
+     */
+    int getDiffThreads() {
+        return diffThreads;
+    }
+
+    void setDiffThreads(final int diffThreads) {
+        this.diffThreads = Math.max(1, diffThreads);
+    }
+
+    /**
+     * @return true if only the commits that are not yet in the store should be imported.
+     */
+    boolean isIncremental() {
+        return incremental;
+    }
+
+    void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * @return Directory where the changes of already diffed commits are kept between scans or null, if they are not cached.
+     */
+    File getDiffCacheDirectory() {
+        return diffCacheDirectory;
+    }
+
+    void setDiffCacheDirectory(final File diffCacheDirectory) {
+        this.diffCacheDirectory = diffCacheDirectory;
+    }
+
+    /**
+     * @return Size in bytes the diff cache is trimmed to after a scan.
+     */
+    long getDiffCacheMaxSize() {
+        return diffCacheMaxSize;
+    }
+
+    void setDiffCacheMaxSize(final long diffCacheMaxSize) {
+        this.diffCacheMaxSize = Math.max(0, diffCacheMaxSize);
+    }
+
+    GitDiffPolicy.RenameDetection getRenameDetection() {
+        return renameDetection;
+    }
+
+    void setRenameDetection(final GitDiffPolicy.RenameDetection renameDetection) {
+        this.renameDetection = renameDetection;
+    }
+
+    /**
+     * @return Maximum number of files compared by content to find renames or null, if the limit of the repository applies.
+     */
+    Integer getRenameLimit() {
+        return renameLimit;
+    }
+
+    void setRenameLimit(final Integer renameLimit) {
+        this.renameLimit = renameLimit;
+    }
+
+    /**
+     * @return Number of changed files above which no renames are detected for a commit, 0 for no limit.
+     */
+    int getDiffMaxFiles() {
+        return diffMaxFiles;
+    }
+
+    void setDiffMaxFiles(final int diffMaxFiles) {
+        this.diffMaxFiles = Math.max(0, diffMaxFiles);
+    }
+
+    /**
+     * @return true if merges are diffed against their first parent only.
+     */
+    boolean isFirstParentDiff() {
+        return firstParentDiff;
+    }
+
+    void setFirstParentDiff(final boolean firstParentDiff) {
+        this.firstParentDiff = firstParentDiff;
+    }
+
+    /**
+     * @return true if the added and deleted lines of every change are counted.
+     */
+    boolean isChurn() {
+        return churn;
+    }
+
+    void setChurn(final boolean churn) {
+        this.churn = churn;
+    }
+
+    /**
+     * @return Size in bytes above which the lines of a file are not counted.
+     */
+    int getChurnMaxBlobSize() {
+        return churnMaxBlobSize;
+    }
+
+    void setChurnMaxBlobSize(final int churnMaxBlobSize) {
+        this.churnMaxBlobSize = Math.max(0, churnMaxBlobSize);
+    }
+
+    /**
+     * @return Number of commits after which the store transaction is committed, 0 for one transaction.
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    void setBatchSize(final int batchSize) {
+        this.batchSize = Math.max(0, batchSize);
+    }
+
+    /**
+     * @return Glob pattern of the files at HEAD whose lines are attributed to their authors or null, if nothing is blamed.
+     */
+    String getBlameFiles() {
+        return blameFiles;
+    }
+
+    void setBlameFiles(final String blameFiles) {
+        this.blameFiles = blameFiles;
+    }
+
+    /**
+     * @return Number of threads blaming files.
+     */
+    int getBlameThreads() {
+        return blameThreads;
+    }
+
+    void setBlameThreads(final int blameThreads) {
+        this.blameThreads = Math.max(1, blameThreads);
+    }
+
+    /**
+     * @return Size in bytes above which a file is not blamed.
+     */
+    int getBlameMaxBlobSize() {
+        return blameMaxBlobSize;
+    }
+
+    void setBlameMaxBlobSize(final int blameMaxBlobSize) {
+        this.blameMaxBlobSize = Math.max(0, blameMaxBlobSize);
+    }
+
+    /**
+     * @return true if the checked out submodules of a repository are scanned as well.
+     */
+    boolean isSubmodules() {
+        return submodules;
+    }
+
+    void setSubmodules(final boolean submodules) {
+        this.submodules = submodules;
+    }
+
+    /**
+     * @return Number of repositories (a repository and its submodules) that are read at the same time.
+     */
+    int getRepositoryThreads() {
+        return repositoryThreads;
+    }
+
+    void setRepositoryThreads(final int repositoryThreads) {
+        this.repositoryThreads = Math.max(1, repositoryThreads);
+    }
+
+    /**
+     * @return Maximum number of commits imported, the newest first, 0 for no limit.
+     */
+    int getMaxCommits() {
+        return maxCommits;
+    }
+
+    void setMaxCommits(final int maxCommits) {
+        this.maxCommits = Math.max(0, maxCommits);
+    }
+
+    /**
+     * @return Commit time before which no commits are imported or null, if the whole history is imported.
+     */
+    Date getSince() {
+        return since;
+    }
+
+    void setSince(final Date since) {
+        this.since = since;
+    }
+
+    /**
+     * @return The paths below which changes are imported, empty for all paths.
+     */
+    List<String> getPaths() {
+        return paths;
+    }
+
+    void setPaths(final List<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * @return true if the pairs of files changed by the same commits are counted.
+     */
+    boolean isCoChange() {
+        return coChange;
+    }
+
+    void setCoChange(final boolean coChange) {
+        this.coChange = coChange;
+    }
+
+    /**
+     * @return Number of changed files above which a commit is not counted for the co-changes.
+     */
+    int getCoChangeMaxFiles() {
+        return coChangeMaxFiles;
+    }
+
+    void setCoChangeMaxFiles(final int coChangeMaxFiles) {
+        this.coChangeMaxFiles = Math.max(2, coChangeMaxFiles);
+    }
+
+    /**
+     * @return Number of commits two files must have been changed by together to be related.
+     */
+    int getCoChangeMinSupport() {
+        return coChangeMinSupport;
+    }
+
+    void setCoChangeMinSupport(final int coChangeMinSupport) {
+        this.coChangeMinSupport = Math.max(1, coChangeMinSupport);
+    }
+
+    /**
+     * @return true if the names and emails of the authors and committers are mapped by the '.mailmap' at HEAD.
+     */
+    boolean isMailmap() {
+        return mailmap;
+    }
+
+    void setMailmap(final boolean mailmap) {
+        this.mailmap = mailmap;
+    }
+
+    /**
+     * @return true if every commit keeps the ident strings of its author and committer as properties.
+     */
+    boolean isIdentStrings() {
+        return identStrings;
+    }
+
+    void setIdentStrings(final boolean identStrings) {
+        this.identStrings = identStrings;
+    }
+
+    MessageMode getMessageMode() {
+        return messageMode;
+    }
+
+    void setMessageMode(final MessageMode messageMode) {
+        this.messageMode = messageMode;
+    }
+
+    /**
+     * @return Number of characters the stored messages are cut to, 0 for no limit.
+     */
+    int getMessageMaxLength() {
+        return messageMaxLength;
+    }
+
+    void setMessageMaxLength(final int messageMaxLength) {
+        this.messageMaxLength = Math.max(0, messageMaxLength);
+    }
+}
@@ -3,7 +3,23 @@ package de.kontext_e.jqassistant.plugin.git.scanner;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,6 +28,7 @@ import com.buschmais.jqassistant.core.scanner.api.Scope;
 import com.buschmais.jqassistant.core.store.api.Store;
 import com.buschmais.jqassistant.plugin.common.api.scanner.AbstractScannerPlugin;
 import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
+import com.buschmais.xo.api.Query;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitRepositoryDescriptor;
 
 /**
@@ -20,9 +37,45 @@ import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitRepositoryDescrip
 public class GitScannerPlugin extends AbstractScannerPlugin<FileResource, GitRepositoryDescriptor> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GitScannerPlugin.class);
     private static final String GIT_RANGE = "jqassistant.plugin.git.range";
-    private static int counter = 0;
+    private static final String GIT_DIFF_THREADS = "jqassistant.plugin.git.diff.threads";
+    private static final String GIT_INCREMENTAL = "jqassistant.plugin.git.incremental";
+    private static final String GIT_DIFF_CACHE_DIRECTORY = "jqassistant.plugin.git.diff.cache.directory";
+    private static final String GIT_DIFF_CACHE_MAX_SIZE = "jqassistant.plugin.git.diff.cache.maxSize";
+    private static final String GIT_DIFF_RENAMES = "jqassistant.plugin.git.diff.renames";
+    private static final String GIT_DIFF_RENAME_LIMIT = "jqassistant.plugin.git.diff.renameLimit";
+    private static final String GIT_DIFF_MAX_FILES = "jqassistant.plugin.git.diff.maxFiles";
+    private static final String GIT_DIFF_FIRST_PARENT = "jqassistant.plugin.git.diff.firstParent";
+    private static final String GIT_BATCH_SIZE = "jqassistant.plugin.git.batchSize";
+    private static final String GIT_DIFF_CHURN = "jqassistant.plugin.git.diff.churn";
+    private static final String GIT_DIFF_CHURN_MAX_BLOB_SIZE = "jqassistant.plugin.git.diff.churn.maxBlobSize";
+    private static final String GIT_BLAME = "jqassistant.plugin.git.blame";
+    private static final String GIT_BLAME_THREADS = "jqassistant.plugin.git.blame.threads";
+    private static final String GIT_BLAME_MAX_BLOB_SIZE = "jqassistant.plugin.git.blame.maxBlobSize";
+    private static final String GIT_SUBMODULES = "jqassistant.plugin.git.submodules";
+    private static final String GIT_REPOSITORY_THREADS = "jqassistant.plugin.git.repository.threads";
+    private static final String GIT_MAX_COMMITS = "jqassistant.plugin.git.maxCommits";
+    private static final String GIT_SINCE = "jqassistant.plugin.git.since";
+    private static final String GIT_PATHS = "jqassistant.plugin.git.paths";
+    private static final String GIT_CO_CHANGE = "jqassistant.plugin.git.coChange";
+    private static final String GIT_CO_CHANGE_MAX_FILES = "jqassistant.plugin.git.coChange.maxFiles";
+    private static final String GIT_CO_CHANGE_MIN_SUPPORT = "jqassistant.plugin.git.coChange.minSupport";
+    private static final String GIT_MAILMAP = "jqassistant.plugin.git.mailmap";
+    private static final String GIT_IDENT_STRINGS = "jqassistant.plugin.git.commit.identStrings";
+    private static final String GIT_MESSAGE = "jqassistant.plugin.git.commit.message";
+    private static final String GIT_MESSAGE_MAX_LENGTH = "jqassistant.plugin.git.commit.message.maxLength";
+    private static final String FIND_REPOSITORY = "MATCH (repository:Git:Repository) WHERE repository.fileName = {fileName} RETURN repository";
 
-    private String range = null;
+    private final GitScannerConfiguration configuration;
+    // canonical paths of the Git directories that were already scanned
+    private final Set<Path> scannedRepositories = new HashSet<>();
+
+    public GitScannerPlugin() {
+        this(new GitScannerConfiguration());
+    }
+
+    GitScannerPlugin(final GitScannerConfiguration configuration) {
+        this.configuration = configuration;
+    }
 
     @Override
     /*
@@ -32,21 +85,22 @@ public class GitScannerPlugin extends AbstractScannerPlugin<FileResource, GitRep
      * repository and the scanner may perform it's work on it (call to "scan" method).
      */
     public boolean accepts(final FileResource item, final String path, final Scope scope) throws IOException {
-        // in some maven project layouts, the .git repo is offered in every subproject
-        // but needs to be imported only once
-        if(counter > 0) return false;
-
         if(path.endsWith("/HEAD")) {
             final File gitDirectory = item.getFile();
             LOGGER.debug("Checking path {} / dir {}", path, gitDirectory);
             boolean isGitDir = ".git".equals(gitDirectory.toPath().toAbsolutePath().getParent().toFile().getName());
             if (!isGitDir) {
                 return false;
-            } else {
-                String pathToGitProject = gitDirectory.toPath().getParent().toFile().getAbsolutePath();
-                LOGGER.info("Accepted Git project in '{}'", pathToGitProject);
-                return true;
             }
+            // in some maven project layouts, the .git repo is offered in every subproject
+            // but needs to be imported only once
+            if (scannedRepositories.contains(getCanonicalPath(getGitPath(gitDirectory)))) {
+                LOGGER.debug("Git directory '{}' was already scanned", gitDirectory.getParent());
+                return false;
+            }
+            String pathToGitProject = gitDirectory.toPath().getParent().toFile().getAbsolutePath();
+            LOGGER.info("Accepted Git project in '{}'", pathToGitProject);
+            return true;
         }
 
         return false;
@@ -54,23 +108,115 @@ public class GitScannerPlugin extends AbstractScannerPlugin<FileResource, GitRep
 
     @Override
     public GitRepositoryDescriptor scan(final FileResource item, final String path, final Scope scope, final Scanner scanner) throws IOException {
-        counter++;
+        scannedRepositories.add(getCanonicalPath(getGitPath(item.getFile())));
 
         // This is called with path = "/HEAD" since this is the only "accepted" file
         LOGGER.debug ("Scanning Git directory '{}' (call with path: '{}')", item.getFile(), path);
         Store store = scanner.getContext().getStore();
-        final GitRepositoryDescriptor gitRepositoryDescriptor = store.create(GitRepositoryDescriptor.class);
-        initGitDescriptor(gitRepositoryDescriptor, item.getFile());
+        final String pathToGitProject = getGitPath(item.getFile()).toFile().getAbsolutePath();
+        GitRepositoryDescriptor gitRepositoryDescriptor = findGitDescriptor(store, pathToGitProject);
+        if (gitRepositoryDescriptor != null && !configuration.isIncremental()) {
+            // e.g. offered again by another module of the same build
+            LOGGER.info ("Git repository '{}' is already in the store", pathToGitProject);
+            return gitRepositoryDescriptor;
+        }
+        if (gitRepositoryDescriptor == null) {
+            gitRepositoryDescriptor = store.create(GitRepositoryDescriptor.class);
+            initGitDescriptor(gitRepositoryDescriptor, item.getFile());
+        } else {
+            LOGGER.info ("Git repository '{}' was scanned before, updating it", pathToGitProject);
+        }
 
-        new GitRepositoryScanner(store, gitRepositoryDescriptor, range).scanGitRepo();
+        GitStoreWriter storeWriter = new GitStoreWriter();
+        List<GitRepositoryScanner> repositoryScanners = new ArrayList<>();
+        repositoryScanners.add(new GitRepositoryScanner(store, storeWriter, gitRepositoryDescriptor, configuration));
+        if (configuration.isSubmodules()) {
+            addSubmodules(store, storeWriter, gitRepositoryDescriptor, repositoryScanners);
+        }
+        scanRepositories(storeWriter, repositoryScanners);
 
         return gitRepositoryDescriptor;
     }
 
+    /*
+     * Submodules are independent repositories, they are added with their own submodules.
+     */
+    private void addSubmodules(final Store store, final GitStoreWriter storeWriter, final GitRepositoryDescriptor parent,
+                               final List<GitRepositoryScanner> repositoryScanners) throws IOException {
+        List<GitSubmodule> submodules;
+        try (JGitScanner jGitScanner = new JGitScanner(parent.getFileName(), configuration)) {
+            submodules = jGitScanner.findSubmodules();
+        }
+        for (GitSubmodule submodule : submodules) {
+            Path gitPath = getCanonicalPath(submodule.getGitDirectory().toPath());
+            if (!scannedRepositories.add(gitPath)) {
+                LOGGER.debug ("Git directory '{}' of Submodule '{}' was already scanned", gitPath, submodule.getPath());
+                continue;
+            }
+            String pathToGitProject = gitPath.toFile().getAbsolutePath();
+            GitRepositoryDescriptor gitRepositoryDescriptor = null;
+            if (configuration.isIncremental()) {
+                gitRepositoryDescriptor = findGitDescriptor(store, pathToGitProject);
+            }
+            if (gitRepositoryDescriptor == null) {
+                gitRepositoryDescriptor = store.create(GitRepositoryDescriptor.class);
+                gitRepositoryDescriptor.setName(submodule.getPath().substring(submodule.getPath().lastIndexOf('/') + 1));
+                gitRepositoryDescriptor.setFileName(pathToGitProject);
+                parent.getSubmodules().add(gitRepositoryDescriptor);
+            }
+            LOGGER.info ("Adding Submodule '{}' of Git repository '{}'", submodule.getPath(), parent.getFileName());
+            repositoryScanners.add(new GitRepositoryScanner(store, storeWriter, gitRepositoryDescriptor, configuration));
+            addSubmodules(store, storeWriter, gitRepositoryDescriptor, repositoryScanners);
+        }
+    }
+
+    /*
+     * The repositories are read by a pool of workers, each with its own JGit resources. The store is only written
+     * by the scanning thread.
+     *
+     * The pool only covers the repositories of this call, a repository and its submodules: the scanner offers every
+     * accepted Git directory with a call of its own and has no hook at the end of the scan to join them.
+     */
+    private void scanRepositories(final GitStoreWriter storeWriter, final List<GitRepositoryScanner> repositoryScanners) throws IOException {
+        int threads = Math.min(configuration.getRepositoryThreads(), repositoryScanners.size());
+        if (threads <= 1) {
+            for (GitRepositoryScanner repositoryScanner : repositoryScanners) {
+                repositoryScanner.scanGitRepo();
+            }
+            return;
+        }
+
+        LOGGER.debug ("Scanning {} Git repositories with {} threads", repositoryScanners.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new RepositoryThreadFactory());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (GitRepositoryScanner repositoryScanner : repositoryScanners) {
+                workers.add(executor.submit(() -> {
+                    repositoryScanner.scanGitRepo();
+                    return null;
+                }));
+            }
+            storeWriter.drain(workers);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * Look up the repository a former scan created for the same Git directory.
+     */
+    private static GitRepositoryDescriptor findGitDescriptor(final Store store, final String pathToGitProject) {
+        Map<String, Object> parameters = Collections.singletonMap("fileName", pathToGitProject);
+        try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(FIND_REPOSITORY, parameters)) {
+            if (!result.hasResult()) {
+                return null;
+            }
+            return result.getSingleResult().get("repository", GitRepositoryDescriptor.class);
+        }
+    }
+
     static void initGitDescriptor(final GitRepositoryDescriptor gitRepositoryDescriptor, final File file) throws IOException {
-        final Path headPath = file.toPath().toAbsolutePath().normalize();
-        LOGGER.debug ("Full path to Git directory HEAD is '{}'", headPath);
-        final Path gitPath = headPath.getParent(); // Path of dir of /HEAD
+        final Path gitPath = getGitPath(file);
         final String pathToGitProject = gitPath.toFile().getAbsolutePath();
         LOGGER.debug ("Full path to Git directory is '{}'", pathToGitProject);
         final Path projectPath = gitPath.getParent(); // Path of parent of dir of /HEAD
@@ -82,8 +228,22 @@ public class GitScannerPlugin extends AbstractScannerPlugin<FileResource, GitRep
         gitRepositoryDescriptor.setFileName(pathToGitProject);
     }
 
+    private static Path getGitPath(final File file) {
+        final Path headPath = file.toPath().toAbsolutePath().normalize();
+        LOGGER.debug ("Full path to Git directory HEAD is '{}'", headPath);
+        return headPath.getParent(); // Path of dir of /HEAD
+    }
+
+    private static Path getCanonicalPath(final Path path) {
+        try {
+            return path.toRealPath();
+        } catch (IOException e) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+
     private void setRange (String range) {
-        this.range = range;
+        configuration.setRange(range);
         LOGGER.info ("Git plugin has configured range '{}'", range);
     }
 
@@ -91,16 +251,201 @@ public class GitScannerPlugin extends AbstractScannerPlugin<FileResource, GitRep
     protected void configure() {
         super.configure();
 
-        Map<String, Object> properties = getProperties();
-
-        String rangeProperty = (String) properties.get(GIT_RANGE);
-        if(rangeProperty != null) {
+        String rangeProperty = getGitProperty(GIT_RANGE);
+        if (rangeProperty != null) {
             setRange(rangeProperty);
-        } else {
-            rangeProperty = System.getProperty(GIT_RANGE);
-            if (rangeProperty != null) {
-                setRange(rangeProperty);
+        }
+
+        String diffThreadsProperty = getGitProperty(GIT_DIFF_THREADS);
+        if (diffThreadsProperty != null) {
+            configuration.setDiffThreads(Integer.parseInt(diffThreadsProperty.trim()));
+            LOGGER.info ("Git plugin diffs commits with {} threads", configuration.getDiffThreads());
+        }
+
+        String incrementalProperty = getGitProperty(GIT_INCREMENTAL);
+        if (incrementalProperty != null) {
+            configuration.setIncremental(Boolean.parseBoolean(incrementalProperty.trim()));
+            LOGGER.info ("Git plugin imports incrementally: {}", configuration.isIncremental());
+        }
+
+        String diffCacheDirectoryProperty = getGitProperty(GIT_DIFF_CACHE_DIRECTORY);
+        if (diffCacheDirectoryProperty != null && !diffCacheDirectoryProperty.trim().isEmpty()) {
+            configuration.setDiffCacheDirectory(new File(diffCacheDirectoryProperty.trim()));
+            LOGGER.info ("Git plugin caches diffs in '{}'", configuration.getDiffCacheDirectory());
+        }
+
+        String diffCacheMaxSizeProperty = getGitProperty(GIT_DIFF_CACHE_MAX_SIZE);
+        if (diffCacheMaxSizeProperty != null) {
+            configuration.setDiffCacheMaxSize(Long.parseLong(diffCacheMaxSizeProperty.trim()));
+        }
+
+        String renamesProperty = getGitProperty(GIT_DIFF_RENAMES);
+        if (renamesProperty != null) {
+            configuration.setRenameDetection(GitDiffPolicy.RenameDetection.valueOf(renamesProperty.trim().toUpperCase(Locale.ENGLISH)));
+            LOGGER.info ("Git plugin detects renames: {}", configuration.getRenameDetection());
+        }
+
+        String renameLimitProperty = getGitProperty(GIT_DIFF_RENAME_LIMIT);
+        if (renameLimitProperty != null) {
+            configuration.setRenameLimit(Integer.valueOf(renameLimitProperty.trim()));
+        }
+
+        String maxFilesProperty = getGitProperty(GIT_DIFF_MAX_FILES);
+        if (maxFilesProperty != null) {
+            configuration.setDiffMaxFiles(Integer.parseInt(maxFilesProperty.trim()));
+        }
+
+        String firstParentProperty = getGitProperty(GIT_DIFF_FIRST_PARENT);
+        if (firstParentProperty != null) {
+            configuration.setFirstParentDiff(Boolean.parseBoolean(firstParentProperty.trim()));
+        }
+
+        String churnProperty = getGitProperty(GIT_DIFF_CHURN);
+        if (churnProperty != null) {
+            configuration.setChurn(Boolean.parseBoolean(churnProperty.trim()));
+            LOGGER.info ("Git plugin counts changed lines: {}", configuration.isChurn());
+        }
+
+        String churnMaxBlobSizeProperty = getGitProperty(GIT_DIFF_CHURN_MAX_BLOB_SIZE);
+        if (churnMaxBlobSizeProperty != null) {
+            configuration.setChurnMaxBlobSize(Integer.parseInt(churnMaxBlobSizeProperty.trim()));
+        }
+
+        String batchSizeProperty = getGitProperty(GIT_BATCH_SIZE);
+        if (batchSizeProperty != null) {
+            configuration.setBatchSize(Integer.parseInt(batchSizeProperty.trim()));
+            LOGGER.info ("Git plugin commits the store every {} commits", configuration.getBatchSize());
+        }
+
+        String blameProperty = getGitProperty(GIT_BLAME);
+        if (blameProperty != null && !blameProperty.trim().isEmpty()) {
+            configuration.setBlameFiles(blameProperty.trim());
+            LOGGER.info ("Git plugin blames files matching '{}'", configuration.getBlameFiles());
+        }
+
+        String blameThreadsProperty = getGitProperty(GIT_BLAME_THREADS);
+        if (blameThreadsProperty != null) {
+            configuration.setBlameThreads(Integer.parseInt(blameThreadsProperty.trim()));
+        }
+
+        String blameMaxBlobSizeProperty = getGitProperty(GIT_BLAME_MAX_BLOB_SIZE);
+        if (blameMaxBlobSizeProperty != null) {
+            configuration.setBlameMaxBlobSize(Integer.parseInt(blameMaxBlobSizeProperty.trim()));
+        }
+
+        String submodulesProperty = getGitProperty(GIT_SUBMODULES);
+        if (submodulesProperty != null) {
+            configuration.setSubmodules(Boolean.parseBoolean(submodulesProperty.trim()));
+            LOGGER.info ("Git plugin scans submodules: {}", configuration.isSubmodules());
+        }
+
+        String repositoryThreadsProperty = getGitProperty(GIT_REPOSITORY_THREADS);
+        if (repositoryThreadsProperty != null) {
+            configuration.setRepositoryThreads(Integer.parseInt(repositoryThreadsProperty.trim()));
+            LOGGER.info ("Git plugin reads {} repositories at the same time", configuration.getRepositoryThreads());
+        }
+
+        String maxCommitsProperty = getGitProperty(GIT_MAX_COMMITS);
+        if (maxCommitsProperty != null) {
+            configuration.setMaxCommits(Integer.parseInt(maxCommitsProperty.trim()));
+            LOGGER.info ("Git plugin imports at most {} commits", configuration.getMaxCommits());
+        }
+
+        String sinceProperty = getGitProperty(GIT_SINCE);
+        if (sinceProperty != null && !sinceProperty.trim().isEmpty()) {
+            configuration.setSince(parseSince(sinceProperty.trim(), LocalDate.now()));
+            LOGGER.info ("Git plugin imports commits since {}", configuration.getSince());
+        }
+
+        String pathsProperty = getGitProperty(GIT_PATHS);
+        if (pathsProperty != null) {
+            List<String> paths = new ArrayList<>();
+            for (String gitPath : pathsProperty.split(",")) {
+                if (!gitPath.trim().isEmpty()) {
+                    paths.add(gitPath.trim());
+                }
             }
+            configuration.setPaths(paths);
+            LOGGER.info ("Git plugin imports changes below {}", configuration.getPaths());
+        }
+
+        String coChangeProperty = getGitProperty(GIT_CO_CHANGE);
+        if (coChangeProperty != null) {
+            configuration.setCoChange(Boolean.parseBoolean(coChangeProperty.trim()));
+            LOGGER.info ("Git plugin counts co-changed files: {}", configuration.isCoChange());
+        }
+
+        String coChangeMaxFilesProperty = getGitProperty(GIT_CO_CHANGE_MAX_FILES);
+        if (coChangeMaxFilesProperty != null) {
+            configuration.setCoChangeMaxFiles(Integer.parseInt(coChangeMaxFilesProperty.trim()));
+        }
+
+        String coChangeMinSupportProperty = getGitProperty(GIT_CO_CHANGE_MIN_SUPPORT);
+        if (coChangeMinSupportProperty != null) {
+            configuration.setCoChangeMinSupport(Integer.parseInt(coChangeMinSupportProperty.trim()));
+        }
+
+        String mailmapProperty = getGitProperty(GIT_MAILMAP);
+        if (mailmapProperty != null) {
+            configuration.setMailmap(Boolean.parseBoolean(mailmapProperty.trim()));
+            LOGGER.info ("Git plugin applies the mailmap: {}", configuration.isMailmap());
+        }
+
+        String identStringsProperty = getGitProperty(GIT_IDENT_STRINGS);
+        if (identStringsProperty != null) {
+            configuration.setIdentStrings(Boolean.parseBoolean(identStringsProperty.trim()));
+        }
+
+        String messageProperty = getGitProperty(GIT_MESSAGE);
+        if (messageProperty != null) {
+            configuration.setMessageMode(GitScannerConfiguration.MessageMode.valueOf(messageProperty.trim().toUpperCase(Locale.ENGLISH)));
+            LOGGER.info ("Git plugin stores commit messages: {}", configuration.getMessageMode());
+        }
+
+        String messageMaxLengthProperty = getGitProperty(GIT_MESSAGE_MAX_LENGTH);
+        if (messageMaxLengthProperty != null) {
+            configuration.setMessageMaxLength(Integer.parseInt(messageMaxLengthProperty.trim()));
+        }
+    }
+
+    /**
+     * @param since A date like '2017-01-31' or a period back from today like 'P12M' (ISO-8601).
+     * @return The start of the day in the default time zone.
+     */
+    static Date parseSince(final String since, final LocalDate today) {
+        LocalDate sinceDate;
+        try {
+            sinceDate = LocalDate.parse(since);
+        } catch (DateTimeParseException e) {
+            try {
+                sinceDate = today.minus(Period.parse(since));
+            } catch (DateTimeParseException periodException) {
+                throw new IllegalArgumentException("Git since must be a date like '2017-01-31' or a period like 'P12M': '" + since + "'");
+            }
+        }
+        return Date.from(sinceDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /*
+     * A property of the plugin configuration takes precedence over a system property.
+     */
+    private String getGitProperty(final String name) {
+        Map<String, Object> properties = getProperties();
+        Object property = properties.get(name);
+        if (property != null) {
+            return property.toString();
+        }
+        return System.getProperty(name);
+    }
+
+    private static class RepositoryThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "git-repository-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
 }
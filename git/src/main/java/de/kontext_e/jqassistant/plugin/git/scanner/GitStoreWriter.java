@@ -0,0 +1,131 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the store access of repositories that are scanned concurrently.
+ *
+ * The store and its transaction belong to the scanning thread, so the workers reading the repositories hand
+ * everything that touches the store over to this writer, which runs it on the scanning thread in the order it
+ * was handed over. On the scanning thread itself everything runs right away. The number of pending writes is
+ * bounded, so fast workers cannot run away from the store.
+ */
+class GitStoreWriter {
+    private static final int CAPACITY = 1024;
+
+    private final Thread writerThread = Thread.currentThread();
+    private final BlockingQueue<FutureTask<?>> pending = new ArrayBlockingQueue<>(CAPACITY);
+    private volatile Throwable failure;
+
+    /**
+     * Runs the write on the scanning thread; from a worker without waiting for it.
+     */
+    void execute(final Runnable write) throws IOException {
+        if (Thread.currentThread() == writerThread) {
+            write.run();
+            return;
+        }
+        enqueue(new FutureTask<Void>(write, null));
+    }
+
+    /**
+     * Runs the read or write on the scanning thread and waits for its result.
+     */
+    <T> T call(final Callable<T> read) throws IOException {
+        FutureTask<T> task = new FutureTask<>(read);
+        if (Thread.currentThread() == writerThread) {
+            task.run();
+        } else {
+            enqueue(task);
+        }
+        return get(task);
+    }
+
+    private void enqueue(final FutureTask<?> task) throws IOException {
+        checkFailure();
+        try {
+            pending.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the store", e);
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Writing to the store failed", failure);
+        }
+    }
+
+    /**
+     * Runs the writes of the workers on the scanning thread until all workers are done.
+     */
+    void drain(final List<? extends Future<?>> workers) throws IOException {
+        if (Thread.currentThread() != writerThread) {
+            throw new IllegalStateException("The store is written by thread '" + writerThread.getName() + "' only");
+        }
+        try {
+            while (true) {
+                FutureTask<?> task = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    run(task);
+                } else if (workers.stream().allMatch(Future::isDone) && pending.isEmpty()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing to the store", e);
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        checkFailure();
+        for (Future<?> worker : workers) {
+            get(worker);
+        }
+    }
+
+    /*
+     * After the first failed write the remaining ones are dropped, the workers notice it with their next write.
+     */
+    private void run(final FutureTask<?> task) {
+        if (failure != null) {
+            task.cancel(false);
+            return;
+        }
+        task.run();
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T get(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the store", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+
+/**
+ * A checked out Git Submodule.
+ */
+public class GitSubmodule {
+    private final String path;
+    private final File gitDirectory;
+
+    public GitSubmodule(final String path, final File gitDirectory) {
+        this.path = path;
+        this.gitDirectory = gitDirectory;
+    }
+
+    /**
+     * @return Path of the submodule in the working tree of its parent repository.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public File getGitDirectory() {
+        return gitDirectory;
+    }
+}
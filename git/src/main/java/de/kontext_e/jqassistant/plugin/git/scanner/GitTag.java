@@ -1,5 +1,7 @@
 package de.kontext_e.jqassistant.plugin.git.scanner;
 
+import java.util.Date;
+
 /**
  * A Git Tag.
  *
@@ -9,6 +11,10 @@ package de.kontext_e.jqassistant.plugin.git.scanner;
 public class GitTag {
     private String label;
     private String commitSha;
+    // only annotated tags have these
+    private GitIdentity tagger;
+    private Date date;
+    private String message;
 
     public GitTag(String label, String commitSha) {
         this.label = label;
@@ -22,4 +28,32 @@ public class GitTag {
     public String getCommitSha() {
         return commitSha;
     }
+
+    public boolean isAnnotated() {
+        return null != date;
+    }
+
+    public GitIdentity getTagger() {
+        return tagger;
+    }
+
+    void setTagger(final GitIdentity tagger) {
+        this.tagger = tagger;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    void setDate(final Date date) {
+        this.date = date;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    void setMessage(final String message) {
+        this.message = message;
+    }
 }
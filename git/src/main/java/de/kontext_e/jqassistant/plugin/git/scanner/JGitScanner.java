@@ -2,28 +2,32 @@ package de.kontext_e.jqassistant.plugin.git.scanner;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.ListBranchCommand;
-import org.eclipse.jgit.api.LogCommand;
-import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.diff.DiffEntry;
-import org.eclipse.jgit.diff.DiffFormatter;
-import org.eclipse.jgit.diff.RawTextComparator;
+import java.util.function.Consumer;
+import org.eclipse.jgit.diff.DiffConfig;
+import org.eclipse.jgit.errors.MissingObjectException;
 import org.eclipse.jgit.lib.AnyObjectId;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefDatabase;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.revwalk.RevTag;
 import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.AndRevFilter;
+import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
+import org.eclipse.jgit.revwalk.filter.MaxCountRevFilter;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
-import org.eclipse.jgit.util.io.DisabledOutputStream;
+import org.eclipse.jgit.submodule.SubmoduleWalk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,129 +44,252 @@ import org.slf4j.LoggerFactory;
  * @since 1.1.0
  */
 // TODO: Rename this! In fact it is not a Scanner but a Repository!
-class JGitScanner {
+class JGitScanner implements AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(JGitScanner.class);
 
     private String path = null;
     private String range = null;
-    private Map<String,GitCommit> commits = new HashMap<>();
+    private final GitScannerConfiguration configuration;
 
-    JGitScanner(final String path, String range) {
+    // Opened once and shared by all operations, so the pack indexes are loaded only once
+    private final Repository repository;
+    private final ObjectReader reader;
+    private final RevWalk revWalk;
+    private final GitDiffPolicy diffPolicy;
+    private final GitIdentities identities;
+
+    JGitScanner(final String path, final GitScannerConfiguration configuration) throws IOException {
         this.path = path;
-        this.range = range;
+        this.configuration = null != configuration ? configuration : new GitScannerConfiguration();
+        this.range = this.configuration.getRange();
+        this.repository = openRepository();
+        this.reader = repository.newObjectReader();
+        this.revWalk = new RevWalk(reader);
+        this.diffPolicy = createDiffPolicy();
+        this.identities = new GitIdentities(this.configuration.isMailmap() ? GitMailmap.read(repository) : GitMailmap.EMPTY);
+    }
+
+    /*
+     * Without a configured rename limit the one of the repository configuration (diff.renameLimit) applies.
+     */
+    private GitDiffPolicy createDiffPolicy() {
+        Integer renameLimit = configuration.getRenameLimit();
+        if (null == renameLimit) {
+            renameLimit = repository.getConfig().get(DiffConfig.KEY).getRenameLimit();
+        }
+        GitDiffPolicy policy = new GitDiffPolicy(configuration.getRenameDetection(), renameLimit,
+                                                 configuration.getDiffMaxFiles(), configuration.isFirstParentDiff(),
+                                                 configuration.isChurn(), configuration.getChurnMaxBlobSize(),
+                                                 configuration.getPaths());
+        logger.debug("Using {}", policy);
+        return policy;
     }
 
-    static LogCommand getLogWithOrWithOutRange(Git git, String range) throws IOException {
-        LogCommand result = git.log();
+    GitDiffPolicy getDiffPolicy() {
+        return diffPolicy;
+    }
 
+    /**
+     * @return The 'since' and the 'until' commit of the range or null, if no range is given.
+     */
+    static AnyObjectId[] resolveRange(Repository repository, String range) throws IOException {
         if (null == range) {
-            result = result.all();
-        } else {
-            int firstDot = range.indexOf('.');
-            if (firstDot <= 0) {
-                throw new IllegalArgumentException ("Git range must start like '<rev specification>..'");
-            }
-            int lastDot = range.lastIndexOf(".");
-            if (lastDot - firstDot != 1) {
-                throw new IllegalArgumentException ("Git range specials ('three dot notation' etc.) are not supported!");
-            }
-            String sinceString = range.substring(0, firstDot);
-            String untilString = lastDot + 1 < range.length() ? range.substring(lastDot + 1) : "HEAD";
-            logger.debug ("Using range from '{}' to '{}'", sinceString, untilString);
-            AnyObjectId since = git.getRepository().resolve(sinceString);
-            if (null == since) {
-                throw new IllegalArgumentException("Could not retrieve 'since' Range part '" + sinceString + "'");
+            return null;
+        }
+
+        int firstDot = range.indexOf('.');
+        if (firstDot <= 0) {
+            throw new IllegalArgumentException ("Git range must start like '<rev specification>..'");
+        }
+        int lastDot = range.lastIndexOf(".");
+        if (lastDot - firstDot != 1) {
+            throw new IllegalArgumentException ("Git range specials ('three dot notation' etc.) are not supported!");
+        }
+        String sinceString = range.substring(0, firstDot);
+        String untilString = lastDot + 1 < range.length() ? range.substring(lastDot + 1) : "HEAD";
+        logger.debug ("Using range from '{}' to '{}'", sinceString, untilString);
+        AnyObjectId since = repository.resolve(sinceString);
+        if (null == since) {
+            throw new IllegalArgumentException("Could not retrieve 'since' Range part '" + sinceString + "'");
+        }
+        AnyObjectId until = repository.resolve(untilString);
+        if (null == until) {
+            throw new IllegalArgumentException("Could not retrieve 'until' Range part '" + untilString + "'");
+        }
+
+        return new AnyObjectId[] { since, until };
+    }
+
+    /*
+     * Without a range the walk starts at every ref, like 'git log --all'.
+     */
+    private void markStart() throws IOException {
+        AnyObjectId[] sinceUntil = resolveRange(repository, range);
+        if (null != sinceUntil) {
+            revWalk.markUninteresting(revWalk.parseCommit(sinceUntil[0]));
+            revWalk.markStart(revWalk.parseCommit(sinceUntil[1]));
+            return;
+        }
+
+        for (Ref ref : repository.getRefDatabase().getRefs(RefDatabase.ALL).values()) {
+            if (null == ref.getObjectId()) {
+                continue;
             }
-            AnyObjectId until = git.getRepository().resolve(untilString);
-            if (null == until) {
-                throw new IllegalArgumentException("Could not retrieve 'until' Range part '" + untilString + "'");
+            RevObject peeled = revWalk.peel(revWalk.parseAny(ref.getObjectId()));
+            if (peeled instanceof RevCommit) {
+                revWalk.markStart((RevCommit) peeled);
             }
-            result = result.addRange(since, until);
         }
+    }
 
-        return result;
+    /*
+     * The walk stops at the first commit older than 'since'; only the commits passing it count for 'maxCommits'.
+     */
+    private RevFilter createRevFilter() {
+        RevFilter filter = RevFilter.ALL;
+        if (null != configuration.getSince()) {
+            logger.debug ("Walking commits since {}", configuration.getSince());
+            filter = CommitTimeRevFilter.after(configuration.getSince());
+        }
+        if (configuration.getMaxCommits() > 0) {
+            logger.debug ("Walking at most {} commits", configuration.getMaxCommits());
+            RevFilter maxCount = MaxCountRevFilter.create(configuration.getMaxCommits());
+            filter = filter == RevFilter.ALL ? maxCount : AndRevFilter.create(filter, maxCount);
+        }
+        return filter;
     }
 
     List<GitCommit> findCommits() throws IOException {
-        Repository repository = getRepository();
-
         List<GitCommit> result = new LinkedList<>();
+        walkCommits(Collections.emptyList(), result::add);
+        return result;
+    }
+
+    /**
+     * Streams the commits of the history one by one to the given consumer, as they come out of the walk.
+     * Nothing is retained after a commit was handed over, so memory does not grow with the size of the history.
+     * Parents are only given as stubs carrying their sha.
+     * The walk stops at the given known commits, so only history that is not reachable from them is reported.
+     */
+    void walkCommits(final Collection<String> knownCommits, final Consumer<GitCommit> consumer) throws IOException {
+        int count = 0;
 
         ObjectId head = repository.resolve("HEAD");
         logger.debug("Found head: {}", head);
 
-        RevWalk rw = new RevWalk(repository);
-
-        try (Git git = new Git(repository)) {
-            LogCommand logCommand = getLogWithOrWithOutRange(git, range);
-            Iterable<RevCommit> commits = logCommand.call();
-
-            DiffFormatter df = new DiffFormatter(DisabledOutputStream.INSTANCE);
-            df.setRepository(repository);
-            df.setDiffComparator(RawTextComparator.DEFAULT);
-            df.setDetectRenames(true);
+        revWalk.reset();
+        try (GitDiffCache cache = openDiffCache();
+             GitDiffPipeline pipeline = new GitDiffPipeline(repository, diffPolicy, cache, configuration.getDiffThreads(), consumer)) {
+            markStart();
+            revWalk.setRevFilter(createRevFilter());
+            for (String knownCommit : knownCommits) {
+                try {
+                    revWalk.markUninteresting(revWalk.parseCommit(ObjectId.fromString(knownCommit)));
+                } catch (MissingObjectException e) {
+                    logger.debug("Known commit '{}' is no longer in the repository", knownCommit);
+                }
+            }
 
-            for (RevCommit commit : commits) {
-                logger.debug("Commit-Message: '{}'", commit.getShortMessage());
+            for (RevCommit commit : revWalk) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Commit-Message: '{}'", commit.getShortMessage());
+                }
                 final Date date = new Date(1000 * (long) commit.getCommitTime());
-                final GitCommit gitCommit = retrieveCommit(ObjectId.toString(commit.getId()));
-                gitCommit.setAuthor(makeStringOfIdent(commit.getAuthorIdent()));
-                gitCommit.setCommitter(makeStringOfIdent(commit.getCommitterIdent()));
+                final GitCommit gitCommit = new GitCommit(ObjectId.toString(commit.getId()));
+                gitCommit.setAuthor(identities.get(commit.getAuthorIdent()));
+                gitCommit.setCommitter(identities.get(commit.getCommitterIdent()));
                 gitCommit.setDate(date);
-                gitCommit.setMessage(commit.getFullMessage());
-                gitCommit.setShortMessage(commit.getShortMessage());
+                addCommitMessage(commit, gitCommit);
                 gitCommit.setEncoding(commit.getEncodingName());
-                addCommitParents(rw, df, commit, gitCommit);
-
-                result.add(gitCommit);
+                // everything needed was taken from the raw commit, the walk only keeps its parents and tree
+                commit.disposeBody();
+                pipeline.submit(addCommitParents(commit, gitCommit));
+                count++;
             }
-        } catch (GitAPIException e) {
-            throw new IllegalStateException("Could not read logs from Git repository '" + path + "'", e);
+            pipeline.finish();
         } finally {
-            rw.close();
-            repository.close();
+            // drop the parsed history, the walk is reused for the refs
+            revWalk.dispose();
         }
 
-        logger.debug("Found #{} commits", result.size());
-        return result;
+        logger.debug("Found #{} commits", count);
     }
 
-    private String makeStringOfIdent(PersonIdent authorIdent) {
-        return authorIdent.getName() + " <" +
-               authorIdent.getEmailAddress() + ">";
+    /**
+     * Attributes the lines of the files at HEAD that match the configured pattern to their authors.
+     */
+    void blameFiles(final Consumer<GitBlame> consumer) throws IOException {
+        ObjectId head = repository.resolve(Constants.HEAD);
+        if (null == head) {
+            logger.debug("Nothing to blame, the repository has no HEAD");
+            return;
+        }
+        try (GitBlameCache cache = openBlameCache();
+             GitBlamer blamer = new GitBlamer(repository, identities, cache, configuration.getBlameThreads(), configuration.getBlameMaxBlobSize())) {
+            blamer.blame(head, configuration.getBlameFiles(), consumer);
+        }
+    }
+
+    private GitBlameCache openBlameCache() throws IOException {
+        if (configuration.getDiffCacheDirectory() == null) {
+            return null;
+        }
+        return new GitBlameCache(configuration.getDiffCacheDirectory(), configuration.getDiffCacheMaxSize());
+    }
+
+    private GitDiffCache openDiffCache() throws IOException {
+        if (configuration.getDiffCacheDirectory() == null) {
+            return null;
+        }
+        return new GitDiffCache(configuration.getDiffCacheDirectory(), diffPolicy, configuration.getDiffCacheMaxSize());
+    }
+
+    private void addCommitMessage(final RevCommit commit, final GitCommit gitCommit) {
+        switch (configuration.getMessageMode()) {
+            case FULL:
+                gitCommit.setMessage(truncate(commit.getFullMessage()));
+                gitCommit.setShortMessage(truncate(commit.getShortMessage()));
+                break;
+            case SHORT:
+                gitCommit.setShortMessage(truncate(commit.getShortMessage()));
+                break;
+            default:
+                break;
+        }
     }
 
-    private GitCommit retrieveCommit (String sha) {
-        if (!commits.containsKey(sha)) {
-            commits.put(sha, new GitCommit (sha));
+    /*
+     * Cuts the message to the configured length, without splitting a surrogate pair.
+     */
+    private String truncate(final String message) {
+        int maxLength = configuration.getMessageMaxLength();
+        if (maxLength == 0 || message.length() <= maxLength) {
+            return message;
         }
-        return commits.get(sha);
+        int end = Character.isHighSurrogate(message.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return message.substring(0, end);
     }
 
-    private void addCommitParents(final RevWalk rw, final DiffFormatter df, final RevCommit revCommit, final GitCommit gitCommit) throws IOException {
+    /*
+     * The walk has already parsed the parents of the commit, so their trees are taken as they are. Only parents the
+     * walk stopped at (range, known commits, since) may still need their headers.
+     */
+    private GitDiffJob addCommitParents(final RevCommit revCommit, final GitCommit gitCommit) throws IOException {
+        ObjectId[] parents = new ObjectId[revCommit.getParentCount()];
+        ObjectId[] parentTrees = new ObjectId[revCommit.getParentCount()];
         for (int i = 0; i < revCommit.getParentCount(); i++) {
-            ObjectId parentId = revCommit.getParent(i).getId();
-            RevCommit parent = rw.parseCommit(parentId);
-
-            List<DiffEntry> diffs = df.scan(parent.getTree(), revCommit.getTree());
-            for (DiffEntry diff : diffs) {
-                final GitChange gitChange = new GitChange(
-                        diff.getChangeType().name(),
-                        diff.getOldPath(),
-                        diff.getNewPath()
-                );
-                logger.debug(gitChange.toString());
-                gitCommit.getGitChanges().add(gitChange);
-            }
+            RevCommit parent = revCommit.getParent(i);
+            revWalk.parseHeaders(parent);
+            parents[i] = parent;
+            parentTrees[i] = parent.getTree();
 
-            String parentSha = ObjectId.toString(parentId);
-            final GitCommit parentCommit = retrieveCommit(parentSha);
-            gitCommit.getParents().add(parentCommit);
+            gitCommit.getParents().add(new GitCommit(parent.name()));
         }
+        return new GitDiffJob(gitCommit, revCommit, revCommit.getTree(), parents, parentTrees);
     }
 
-    private Repository getRepository() throws IOException {
+    private Repository openRepository() throws IOException {
         logger.debug("Opening repository for git directory '{}'", path);
         FileRepositoryBuilder builder = new FileRepositoryBuilder();
         Repository repository = builder
@@ -174,68 +301,101 @@ class JGitScanner {
     }
 
     GitBranch findHead() throws IOException {
-        ObjectId head = getRepository().resolve(Constants.HEAD);
+        ObjectId head = repository.resolve(Constants.HEAD);
         return new GitBranch (Constants.HEAD, ObjectId.toString(head));
     }
 
     List<GitBranch> findBranches() throws IOException {
-        Repository repository = getRepository();
-
-        List<GitBranch> result = new LinkedList<>();
-        try (Git git = new Git(repository)) {
-            List<Ref> branches = git.branchList().setListMode(ListBranchCommand.ListMode.ALL).call();
-            for (Ref branchRef : branches) {
-                GitBranch newBranch = new GitBranch (branchRef.getName(), ObjectId.toString(branchRef.getObjectId()));
-                result.add (newBranch);
+        return findRefs().getBranches();
+    }
+
+    List<GitTag> findTags() throws IOException {
+        return findRefs().getTags();
+    }
+
+    /**
+     * Reads the local and remote branches and the tags in a single pass over the refs, sorted by name.
+     * Annotated tags are peeled down to their commit by the shared walk, taking their tagger, date and message.
+     */
+    GitRefs findRefs() throws IOException {
+        GitRefs result = new GitRefs();
+        for (Ref ref : repository.getRefDatabase().getRefs(RefDatabase.ALL).values()) {
+            String name = ref.getName();
+            if (null == ref.getObjectId()) {
+                continue;
+            }
+            if (name.startsWith(Constants.R_HEADS) || name.startsWith(Constants.R_REMOTES)) {
+                result.getBranches().add(new GitBranch(name, ref.getObjectId().name()));
+            } else if (name.startsWith(Constants.R_TAGS)) {
+                GitTag gitTag = toGitTag(ref);
+                if (null != gitTag) {
+                    result.getTags().add(gitTag);
+                }
             }
-        } catch (GitAPIException e) {
-            throw new IllegalStateException("Could not read branches from Git repository '" + path + "'", e);
-        } finally {
-            repository.close();
         }
-
+        logger.debug ("Found {} branches and {} tags", result.getBranches().size(), result.getTags().size());
         return result;
     }
 
-    private RevCommit resolveFirstCommitForTag (Git git, Ref tagRef) throws IOException, GitAPIException {
-        LogCommand log = git.log();
-        Ref peeledRef = git.getRepository().peel(tagRef);
-        if(peeledRef.getPeeledObjectId() != null) {
-            log.add(peeledRef.getPeeledObjectId());
-        } else {
-            log.add(tagRef.getObjectId());
+    private GitTag toGitTag(final Ref tagRef) throws IOException {
+        String label = tagRef.getName();
+        RevObject object = revWalk.parseAny(tagRef.getObjectId());
+        RevTag annotatedTag = object instanceof RevTag ? (RevTag) object : null;
+        RevObject tagged = revWalk.peel(object);
+        if (!(tagged instanceof RevCommit)) {
+            logger.debug ("Skipping Tag '{}', it does not point to a commit", label);
+            return null;
         }
-
-        Iterable<RevCommit> logs = log.call();
-
-        return logs.iterator().next();
+        logger.debug ("Found Tag '{}' (name = '{}', sha = '{}')", tagRef, label, tagged.name());
+        GitTag gitTag = new GitTag(label, tagged.name());
+        if (null != annotatedTag) {
+            PersonIdent tagger = annotatedTag.getTaggerIdent();
+            if (null != tagger) {
+                gitTag.setTagger(identities.get(tagger));
+                gitTag.setDate(tagger.getWhen());
+            }
+            if (configuration.getMessageMode() != GitScannerConfiguration.MessageMode.NONE) {
+                gitTag.setMessage(truncate(annotatedTag.getFullMessage()));
+            }
+        }
+        return gitTag;
     }
 
-    List<GitTag> findTags() throws IOException {
-        Repository repository = getRepository();
-
-        List<GitTag> result = new LinkedList<>();
-
-        try (Git git = new Git(repository)) {
-            List<Ref> tags = git.tagList().call();
-            for (Ref tagRef : tags) {
-                String label = tagRef.getName();
-                RevCommit firstCommit = resolveFirstCommitForTag (git, tagRef);
-                String objectId = ObjectId.toString(firstCommit);
-                logger.debug ("Found Tag '{}' (name = '{}', sha = '{}')", tagRef, label, objectId);
-                GitTag newTag = new GitTag (label, objectId);
-                result.add (newTag);
+    /**
+     * @return The submodules of the working tree that are checked out, so their history can be read.
+     */
+    List<GitSubmodule> findSubmodules() throws IOException {
+        List<GitSubmodule> result = new LinkedList<>();
+        if (repository.isBare()) {
+            return result;
+        }
+
+        try (SubmoduleWalk submoduleWalk = SubmoduleWalk.forIndex(repository)) {
+            while (submoduleWalk.next()) {
+                try (Repository submodule = submoduleWalk.getRepository()) {
+                    if (null == submodule) {
+                        logger.debug ("Skipping Submodule '{}', it is not checked out", submoduleWalk.getPath());
+                        continue;
+                    }
+                    logger.debug ("Found Submodule '{}' in '{}'", submoduleWalk.getPath(), submodule.getDirectory());
+                    result.add (new GitSubmodule(submoduleWalk.getPath(), submodule.getDirectory()));
+                }
             }
-        } catch (GitAPIException e) {
-            throw new IllegalStateException("Could not read tags from Git repository '" + path + "'", e);
-        } finally {
-            repository.close();
         }
 
         return result;
     }
 
+    @Override
+    public void close() {
+        revWalk.close();
+        reader.close();
+        repository.close();
+    }
+
     public static void main(String[] args) throws IOException {
-        final List<GitCommit> commits = new JGitScanner(".git", null).findCommits();
+        try (JGitScanner jGitScanner = new JGitScanner(".git", null)) {
+            jGitScanner.findCommits();
+        }
     }
 }
@@ -0,0 +1,122 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+/**
+ * Counts unordered pairs of ints, e.g. the indexes of two files changed by the same commit.
+ *
+ * Every pair is packed into a single long key, smaller index first, and the keys and counts are kept in
+ * parallel arrays with linear probing. That is about 20 bytes per pair instead of the boxed keys, values and
+ * entries of a map, which matters because the number of pairs grows with the square of the files per commit.
+ *
+ * Not thread safe.
+ */
+class PairCounter {
+    private static final float MAX_LOAD = 0.66f;
+
+    /**
+     * Receives every counted pair, the smaller index first.
+     */
+    interface PairConsumer {
+        void accept(int first, int second, int count);
+    }
+
+    // 0 marks a free slot, the packed key of a pair is never 0 as the indexes of a pair differ
+    private long[] keys;
+    private int[] counts;
+    private int size;
+    private int threshold;
+
+    PairCounter() {
+        this(1024);
+    }
+
+    PairCounter(final int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1);
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        counts = new int[capacity];
+        threshold = (int) (capacity * MAX_LOAD);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void increment(final int first, final int second) {
+        add(first, second, 1);
+    }
+
+    void add(final int first, final int second, final int count) {
+        if (first < 0 || second < 0 || first == second) {
+            throw new IllegalArgumentException("Not a pair: " + first + ", " + second);
+        }
+        if (size >= threshold) {
+            grow();
+        }
+        long key = first < second ? pack(first, second) : pack(second, first);
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                counts[slot] += count;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = count;
+        size++;
+    }
+
+    /**
+     * @return How often the pair was counted, 0 if never.
+     */
+    int get(final int first, final int second) {
+        long key = first < second ? pack(first, second) : pack(second, first);
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+        }
+        return 0;
+    }
+
+    void forEach(final PairConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept((int) (keys[i] >>> 32), (int) keys[i], counts[i]);
+            }
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i], mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static long pack(final int smaller, final int larger) {
+        return ((long) smaller << 32) | larger;
+    }
+
+    /*
+     * Indexes are small and dense, so the bits need to be spread over the table.
+     */
+    private static int slot(final long key, final int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
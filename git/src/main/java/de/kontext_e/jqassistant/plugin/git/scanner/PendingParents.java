@@ -0,0 +1,204 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+/**
+ * Remembers the imported commits whose parents are not imported yet: sha of the parent -> node ids of the children.
+ *
+ * The history walk hands out children before their parents, so a commit only waits here until the walk reaches its
+ * parents. At any time that is a few commits per line of development the walk is in, not the whole history. The
+ * shas are kept as two longs and an int like in {@link ShaIndex}, the waiting children as linked lists in parallel
+ * arrays, so an entry needs no objects at all.
+ *
+ * Not thread safe.
+ */
+class PendingParents {
+    private static final float MAX_LOAD = 0.66f;
+    private static final int NONE = -1;
+
+    /**
+     * Receives the node id of a child.
+     */
+    interface ChildConsumer {
+        void accept(long childId);
+    }
+
+    /**
+     * Receives a parent that never showed up and the node id of a child waiting for it.
+     */
+    interface PendingConsumer {
+        void accept(String parentSha, long childId);
+    }
+
+    // sha of a parent -> index of its first waiting child + 1, so 0 marks a free slot
+    private long[] words1;
+    private long[] words2;
+    private int[] words3;
+    private int[] heads;
+    private int parents;
+    private int threshold;
+    // the waiting children, every one links to the next child waiting for the same parent
+    private long[] children = new long[16];
+    private int[] next = new int[16];
+    private int usedChildren;
+    private int freeChild = NONE;
+    private int size;
+
+    PendingParents() {
+        allocate(16);
+    }
+
+    private void allocate(final int capacity) {
+        words1 = new long[capacity];
+        words2 = new long[capacity];
+        words3 = new int[capacity];
+        heads = new int[capacity];
+        threshold = (int) (capacity * MAX_LOAD);
+    }
+
+    /**
+     * @return Number of (child, parent) pairs waiting.
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(final String parentSha, final long childId) {
+        ShaIndex.checkLength(parentSha);
+        if (parents >= threshold) {
+            grow();
+        }
+        long w1 = ShaIndex.parseLong(parentSha, 0);
+        long w2 = ShaIndex.parseLong(parentSha, 16);
+        int w3 = (int) ShaIndex.parseLong(parentSha, 32);
+        int mask = heads.length - 1;
+        int slot = ShaIndex.slot(w1, w2, w3, mask);
+        while (heads[slot] != 0 && !(words1[slot] == w1 && words2[slot] == w2 && words3[slot] == w3)) {
+            slot = (slot + 1) & mask;
+        }
+        int child = allocateChild();
+        children[child] = childId;
+        if (heads[slot] == 0) {
+            words1[slot] = w1;
+            words2[slot] = w2;
+            words3[slot] = w3;
+            next[child] = NONE;
+            parents++;
+        } else {
+            next[child] = heads[slot] - 1;
+        }
+        heads[slot] = child + 1;
+        size++;
+    }
+
+    /**
+     * Hands the children waiting for the parent over to the consumer and forgets them.
+     */
+    void remove(final String parentSha, final ChildConsumer consumer) {
+        ShaIndex.checkLength(parentSha);
+        long w1 = ShaIndex.parseLong(parentSha, 0);
+        long w2 = ShaIndex.parseLong(parentSha, 16);
+        int w3 = (int) ShaIndex.parseLong(parentSha, 32);
+        int mask = heads.length - 1;
+        for (int slot = ShaIndex.slot(w1, w2, w3, mask); heads[slot] != 0; slot = (slot + 1) & mask) {
+            if (words1[slot] == w1 && words2[slot] == w2 && words3[slot] == w3) {
+                int child = heads[slot] - 1;
+                deleteSlot(slot);
+                while (child != NONE) {
+                    consumer.accept(children[child]);
+                    int following = next[child];
+                    next[child] = freeChild;
+                    freeChild = child;
+                    size--;
+                    child = following;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hands every pair still waiting over to the consumer.
+     */
+    void forEach(final PendingConsumer consumer) {
+        for (int slot = 0; slot < heads.length; slot++) {
+            if (heads[slot] != 0) {
+                String parentSha = String.format("%016x%016x%08x", words1[slot], words2[slot], words3[slot]);
+                for (int child = heads[slot] - 1; child != NONE; child = next[child]) {
+                    consumer.accept(parentSha, children[child]);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        allocate(16);
+        children = new long[16];
+        next = new int[16];
+        usedChildren = 0;
+        freeChild = NONE;
+        parents = 0;
+        size = 0;
+    }
+
+    private int allocateChild() {
+        if (freeChild != NONE) {
+            int child = freeChild;
+            freeChild = next[child];
+            return child;
+        }
+        if (usedChildren == children.length) {
+            long[] oldChildren = children;
+            int[] oldNext = next;
+            children = new long[oldChildren.length << 1];
+            next = new int[oldNext.length << 1];
+            System.arraycopy(oldChildren, 0, children, 0, usedChildren);
+            System.arraycopy(oldNext, 0, next, 0, usedChildren);
+        }
+        return usedChildren++;
+    }
+
+    /*
+     * Linear probing without tombstones: the following entries that would no longer be found are moved back into
+     * the hole.
+     */
+    private void deleteSlot(final int slot) {
+        int mask = heads.length - 1;
+        int hole = slot;
+        for (int current = (hole + 1) & mask; heads[current] != 0; current = (current + 1) & mask) {
+            int home = ShaIndex.slot(words1[current], words2[current], words3[current], mask);
+            if (((current - home) & mask) >= ((current - hole) & mask)) {
+                words1[hole] = words1[current];
+                words2[hole] = words2[current];
+                words3[hole] = words3[current];
+                heads[hole] = heads[current];
+                hole = current;
+            }
+        }
+        heads[hole] = 0;
+        parents--;
+    }
+
+    private void grow() {
+        long[] oldWords1 = words1;
+        long[] oldWords2 = words2;
+        int[] oldWords3 = words3;
+        int[] oldHeads = heads;
+        allocate(oldHeads.length << 1);
+        int mask = heads.length - 1;
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != 0) {
+                int slot = ShaIndex.slot(oldWords1[i], oldWords2[i], oldWords3[i], mask);
+                while (heads[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                words1[slot] = oldWords1[i];
+                words2[slot] = oldWords2[i];
+                words3[slot] = oldWords3[i];
+                heads[slot] = oldHeads[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.Arrays;
+
+/**
+ * Maps the shas of commits to the node ids of their descriptors.
+ *
+ * A map keyed by the 40 character hex strings costs well over 100 bytes per commit. This index keeps the
+ * 20 bytes of a sha as two longs and an int in parallel arrays and resolves collisions by linear probing,
+ * which needs about 40-60 bytes per commit and no objects at all.
+ *
+ * Not thread safe.
+ */
+class ShaIndex {
+    static final long NOT_FOUND = -1;
+
+    private static final float MAX_LOAD = 0.66f;
+    private static final byte[] HEX_DIGITS = new byte['f' + 1];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (char c = '0'; c <= '9'; c++) {
+            HEX_DIGITS[c] = (byte) (c - '0');
+        }
+        for (char c = 'a'; c <= 'f'; c++) {
+            HEX_DIGITS[c] = (byte) (c - 'a' + 10);
+            HEX_DIGITS[Character.toUpperCase(c)] = (byte) (c - 'a' + 10);
+        }
+    }
+
+    private long[] words1;
+    private long[] words2;
+    private int[] words3;
+    // node id + 1, so 0 marks a free slot
+    private long[] values;
+    private int size;
+    private int threshold;
+
+    ShaIndex() {
+        this(1024);
+    }
+
+    ShaIndex(final int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1);
+    }
+
+    private void allocate(final int capacity) {
+        words1 = new long[capacity];
+        words2 = new long[capacity];
+        words3 = new int[capacity];
+        values = new long[capacity];
+        threshold = (int) (capacity * MAX_LOAD);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(final String sha) {
+        return get(sha) != NOT_FOUND;
+    }
+
+    /**
+     * @return The node id stored for the sha or {@link #NOT_FOUND}.
+     */
+    long get(final String sha) {
+        checkLength(sha);
+        long w1 = parseLong(sha, 0);
+        long w2 = parseLong(sha, 16);
+        int w3 = (int) parseLong(sha, 32);
+        int mask = values.length - 1;
+        for (int slot = slot(w1, w2, w3, mask); values[slot] != 0; slot = (slot + 1) & mask) {
+            if (words1[slot] == w1 && words2[slot] == w2 && words3[slot] == w3) {
+                return values[slot] - 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    void put(final String sha, final long nodeId) {
+        if (nodeId < 0) {
+            throw new IllegalArgumentException("Node ids must not be negative: " + nodeId);
+        }
+        checkLength(sha);
+        if (size >= threshold) {
+            grow();
+        }
+        long w1 = parseLong(sha, 0);
+        long w2 = parseLong(sha, 16);
+        int w3 = (int) parseLong(sha, 32);
+        if (insert(w1, w2, w3, nodeId + 1)) {
+            size++;
+        }
+    }
+
+    private boolean insert(final long w1, final long w2, final int w3, final long value) {
+        int mask = values.length - 1;
+        int slot = slot(w1, w2, w3, mask);
+        while (values[slot] != 0) {
+            if (words1[slot] == w1 && words2[slot] == w2 && words3[slot] == w3) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        words1[slot] = w1;
+        words2[slot] = w2;
+        words3[slot] = w3;
+        values[slot] = value;
+        return true;
+    }
+
+    private void grow() {
+        long[] oldWords1 = words1;
+        long[] oldWords2 = words2;
+        int[] oldWords3 = words3;
+        long[] oldValues = values;
+        allocate(oldValues.length << 1);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != 0) {
+                insert(oldWords1[i], oldWords2[i], oldWords3[i], oldValues[i]);
+            }
+        }
+    }
+
+    /*
+     * Real shas are uniformly distributed already, the multiplication only guards against made up keys.
+     */
+    static int slot(final long w1, final long w2, final int w3, final int mask) {
+        long hash = (w1 ^ w2 ^ w3) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    static void checkLength(final String sha) {
+        if (sha.length() != 40) {
+            throw new IllegalArgumentException("Not a sha: '" + sha + "'");
+        }
+    }
+
+    static long parseLong(final String sha, final int offset) {
+        int end = offset == 32 ? 40 : offset + 16;
+        long result = 0;
+        for (int i = offset; i < end; i++) {
+            char c = sha.charAt(i);
+            int digit = c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+            if (digit < 0) {
+                throw new IllegalArgumentException("Not a sha: '" + sha + "'");
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+}
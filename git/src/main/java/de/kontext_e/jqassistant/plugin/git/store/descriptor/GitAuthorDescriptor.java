@@ -26,4 +26,7 @@ public interface GitAuthorDescriptor extends GitDescriptor {
     @Relation("COMMITTED")
     List<GitCommitDescriptor> getCommits();
 
+    @Relation.Incoming
+    List<GitAuthorshipDescriptor> getAuthorships();
+
 }
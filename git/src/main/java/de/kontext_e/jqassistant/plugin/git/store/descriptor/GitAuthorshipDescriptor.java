@@ -0,0 +1,22 @@
+package de.kontext_e.jqassistant.plugin.git.store.descriptor;
+
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+import com.buschmais.xo.neo4j.api.annotation.Property;
+import com.buschmais.xo.neo4j.api.annotation.Relation;
+
+/**
+ * The lines of a file at HEAD that 'git blame' attributes to an author.
+ */
+@Relation("AUTHORED_BY")
+public interface GitAuthorshipDescriptor extends Descriptor {
+
+    @Relation.Outgoing
+    GitFileDescriptor getFile();
+
+    @Relation.Incoming
+    GitAuthorDescriptor getAuthor();
+
+    @Property("lines")
+    Integer getLines();
+    void setLines(Integer lines);
+}
@@ -11,6 +11,14 @@ public interface GitChangeDescriptor extends GitDescriptor {
     String getModificationKind();
     void setModificationKind(String modificationKind);
 
+    @Property("linesAdded")
+    Integer getLinesAdded();
+    void setLinesAdded(Integer linesAdded);
+
+    @Property("linesDeleted")
+    Integer getLinesDeleted();
+    void setLinesDeleted(Integer linesDeleted);
+
     @Relation("MODIFIES")
     GitFileDescriptor getModifies();
     void setModifies(GitFileDescriptor gitFileDescriptor);
@@ -0,0 +1,22 @@
+package de.kontext_e.jqassistant.plugin.git.store.descriptor;
+
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+import com.buschmais.xo.neo4j.api.annotation.Property;
+import com.buschmais.xo.neo4j.api.annotation.Relation;
+
+/**
+ * Two files that were changed by the same commits (logical coupling).
+ */
+@Relation("CHANGED_WITH")
+public interface GitCoChangeDescriptor extends Descriptor {
+
+    @Relation.Outgoing
+    GitFileDescriptor getFile();
+
+    @Relation.Incoming
+    GitFileDescriptor getCoChangedFile();
+
+    @Property("commits")
+    Integer getCommits();
+    void setCommits(Integer commits);
+}
@@ -2,6 +2,7 @@ package de.kontext_e.jqassistant.plugin.git.store.descriptor;
 
 import java.util.List;
 
+import com.buschmais.xo.neo4j.api.annotation.Indexed;
 import com.buschmais.xo.neo4j.api.annotation.Label;
 import com.buschmais.xo.neo4j.api.annotation.Property;
 import com.buschmais.xo.neo4j.api.annotation.Relation;
@@ -9,6 +10,7 @@ import com.buschmais.xo.neo4j.api.annotation.Relation;
 @Label("Commit")
 public interface GitCommitDescriptor extends GitDescriptor {
 
+    @Indexed
     @Property("sha")
     String getSha();
     void setSha(String sha);
@@ -45,9 +47,21 @@ public interface GitCommitDescriptor extends GitDescriptor {
     String getEncoding();
     void setEncoding(String encoding);
 
+    @Property("linesAdded")
+    Integer getLinesAdded();
+    void setLinesAdded(Integer linesAdded);
+
+    @Property("linesDeleted")
+    Integer getLinesDeleted();
+    void setLinesDeleted(Integer linesDeleted);
+
     @Relation("CONTAINS_CHANGE")
     List<GitChangeDescriptor> getFiles();
 
+    @Relation("HAS_COMMITTER")
+    GitAuthorDescriptor getCommittedBy();
+    void setCommittedBy(GitAuthorDescriptor committer);
+
     @Relation("HAS_PARENT")
     List<GitCommitDescriptor> getParents();
 }
@@ -1,5 +1,8 @@
 package de.kontext_e.jqassistant.plugin.git.store.descriptor;
 
+import java.util.List;
+
+import com.buschmais.xo.neo4j.api.annotation.Indexed;
 import com.buschmais.xo.neo4j.api.annotation.Label;
 import com.buschmais.xo.neo4j.api.annotation.Property;
 import com.buschmais.xo.neo4j.api.annotation.Relation;
@@ -7,6 +10,7 @@ import com.buschmais.xo.neo4j.api.annotation.Relation;
 @Label("File")
 public interface GitFileDescriptor extends GitDescriptor {
 
+    @Indexed
     @Property("relativePath")
     String getRelativePath();
     void setRelativePath(String relativePath);
@@ -35,6 +39,30 @@ public interface GitFileDescriptor extends GitDescriptor {
     Long getLastModificationAtEpoch();
     void setLastModificationAtEpoch(Long lastModificationAtEpoch);
 
+    @Property("changeCount")
+    Integer getChangeCount();
+    void setChangeCount(Integer changeCount);
+
+    @Property("authorCount")
+    Integer getAuthorCount();
+    void setAuthorCount(Integer authorCount);
+
+    @Property("firstChangeAtEpoch")
+    Long getFirstChangeAtEpoch();
+    void setFirstChangeAtEpoch(Long firstChangeAtEpoch);
+
+    @Property("lastChangeAtEpoch")
+    Long getLastChangeAtEpoch();
+    void setLastChangeAtEpoch(Long lastChangeAtEpoch);
+
+    @Property("linesAdded")
+    Integer getLinesAdded();
+    void setLinesAdded(Integer linesAdded);
+
+    @Property("linesDeleted")
+    Integer getLinesDeleted();
+    void setLinesDeleted(Integer linesDeleted);
+
     @Relation("HAS_NEW_NAME")
     GitFileDescriptor getHasNewName();
     void setHasNewName(GitFileDescriptor gitFileDescriptor);
@@ -42,4 +70,13 @@ public interface GitFileDescriptor extends GitDescriptor {
     @Relation("COPY_OF")
     GitFileDescriptor getCopyOf();
     void setCopyOf(GitFileDescriptor oldFile);
+
+    @Relation.Outgoing
+    List<GitAuthorshipDescriptor> getAuthorships();
+
+    @Relation.Outgoing
+    List<GitCoChangeDescriptor> getCoChanges();
+
+    @Relation.Incoming
+    List<GitCoChangeDescriptor> getCoChangedBy();
 }
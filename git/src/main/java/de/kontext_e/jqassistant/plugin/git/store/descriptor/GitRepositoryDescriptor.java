@@ -6,6 +6,7 @@ import com.buschmais.jqassistant.core.store.api.model.Descriptor;
 import com.buschmais.jqassistant.plugin.common.api.model.FileDescriptor;
 import com.buschmais.jqassistant.plugin.common.api.model.NamedDescriptor;
 import com.buschmais.xo.neo4j.api.annotation.Label;
+import com.buschmais.xo.neo4j.api.annotation.Property;
 import com.buschmais.xo.neo4j.api.annotation.Relation;
 
 @Label("Repository")
@@ -30,4 +31,23 @@ public interface GitRepositoryDescriptor extends GitDescriptor, NamedDescriptor,
     GitCommitDescriptor getHead();
 
     void setHead(GitCommitDescriptor headDescriptor);
+
+    @Relation("HAS_SUBMODULE")
+    List<GitRepositoryDescriptor> getSubmodules();
+
+    @Property("renameDetection")
+    String getRenameDetection();
+    void setRenameDetection(String renameDetection);
+
+    @Property("renameLimit")
+    Integer getRenameLimit();
+    void setRenameLimit(Integer renameLimit);
+
+    @Property("diffMaxFiles")
+    Integer getDiffMaxFiles();
+    void setDiffMaxFiles(Integer diffMaxFiles);
+
+    @Property("firstParentDiff")
+    Boolean getFirstParentDiff();
+    void setFirstParentDiff(Boolean firstParentDiff);
 }
@@ -17,6 +17,22 @@ public interface GitTagDescriptor extends GitDescriptor {
     String getLabel();
     public void setLabel(String name);
 
+    @Property("tagger")
+    String getTagger();
+    void setTagger(String tagger);
+
+    @Property("date")
+    String getDate();
+    void setDate(String date);
+
+    @Property("epoch")
+    Long getEpoch();
+    void setEpoch(Long epoch);
+
+    @Property("message")
+    String getMessage();
+    void setMessage(String message);
+
     @Relation("ON_COMMIT")
     GitCommitDescriptor getCommit();
     public void setCommit(GitCommitDescriptor commit);
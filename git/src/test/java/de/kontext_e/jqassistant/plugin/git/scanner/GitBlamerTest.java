@@ -0,0 +1,114 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GitBlamerTest {
+    private static final int MAX_BLOB_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GitFixture fixture;
+    private RevCommit head;
+
+    @Before
+    public void createHistory() throws IOException, GitAPIException {
+        fixture = new GitFixture(folder.newFolder());
+        fixture.write("shared.txt", "one\ntwo\nthree\n")
+               .write("alice.txt", "alone\n")
+               .write("notes.md", "not blamed\n")
+               .write("image.txt", new byte[] {1, 0, 2, 0})
+               .commit("Add files");
+        fixture.write("large.txt", largeFile()).commit("Add a large file");
+        head = fixture.write("shared.txt", "one\nTWO\nthree\nfour\n").commit("Edit shared", GitFixture.BOB);
+    }
+
+    @After
+    public void close() {
+        fixture.close();
+    }
+
+    @Test
+    public void testLinesAreAttributedToTheirAuthors() throws IOException {
+        assertThat(blame(null, 1), contains("alice.txt: Alice <alice@example.com>=1",
+                                            "shared.txt: Alice <alice@example.com>=2, Bob <bob@example.com>=2"));
+    }
+
+    @Test
+    public void testSeveralThreadsKeepTheTreeOrder() throws IOException {
+        assertThat(blame(null, 3), is(blame(null, 1)));
+    }
+
+    @Test
+    public void testUnchangedFilesAreTakenFromTheCache() throws IOException {
+        File directory = folder.newFolder();
+        AtomicInteger hits = new AtomicInteger();
+        List<String> blamed;
+        try (GitBlameCache cache = new CountingBlameCache(directory, hits)) {
+            blamed = blame(cache, 2);
+        }
+        assertThat(hits.get(), is(0));
+
+        try (GitBlameCache cache = new CountingBlameCache(directory, hits)) {
+            assertThat(blame(cache, 2), is(blamed));
+        }
+        // the binary and the large file are not cached, they are checked again
+        assertThat(hits.get(), is(2));
+    }
+
+    private List<String> blame(final GitBlameCache cache, final int threads) throws IOException {
+        List<String> blamed = new ArrayList<>();
+        try (GitBlamer blamer = new GitBlamer(fixture.getRepository(), new GitIdentities(GitMailmap.EMPTY), cache, threads, MAX_BLOB_SIZE)) {
+            blamer.blame(head, "*.txt", gitBlame -> {
+                List<String> lines = new ArrayList<>();
+                gitBlame.getLinesByAuthor().forEach((author, count) -> lines.add(author.getIdentString() + "=" + count));
+                lines.sort(null);
+                blamed.add(gitBlame.getRelativePath() + ": " + String.join(", ", lines));
+            });
+        }
+        return blamed;
+    }
+
+    private static String largeFile() {
+        StringBuilder content = new StringBuilder();
+        while (content.length() <= MAX_BLOB_SIZE) {
+            content.append("a line of a large file\n");
+        }
+        return content.toString();
+    }
+
+    private static class CountingBlameCache extends GitBlameCache {
+        private final AtomicInteger hits;
+
+        CountingBlameCache(final File directory, final AtomicInteger hits) throws IOException {
+            super(directory, 1024 * 1024);
+            this.hits = hits;
+        }
+
+        @Override
+        Map<String, Integer> get(final AnyObjectId blob, final String relativePath) {
+            Map<String, Integer> linesByAuthor = super.get(blob, relativePath);
+            if (linesByAuthor != null) {
+                hits.incrementAndGet();
+            }
+            return linesByAuthor;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class GitCacheTest {
+    private static final long MAX_SIZE = 1024 * 1024;
+    private static final GitDiffPolicy POLICY = new GitDiffPolicy(GitDiffPolicy.RenameDetection.EXACT, 0, 0, false, false, 0, Collections.emptyList());
+    private static final ObjectId PARENT = ObjectId.fromString("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = folder.newFolder();
+    }
+
+    @Test
+    public void testWrittenEntriesCanBeReadBack() throws IOException {
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            cache.put(commit(1), PARENT, changes(1));
+            assertThat(cache.get(commit(1), PARENT), is(changes(1)));
+            assertThat(cache.get(commit(2), PARENT), is(nullValue()));
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            assertThat(cache.get(commit(1), PARENT), is(changes(1)));
+            assertThat(cache.get(commit(1), commit(2)), is(nullValue()));
+        }
+        // a single pack with its index, not a file per entry
+        assertThat(files().size(), is(2));
+    }
+
+    @Test
+    public void testPackWithoutIndexFileIsScanned() throws IOException {
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            for (int i = 0; i < 100; i++) {
+                cache.put(commit(i), PARENT, changes(i));
+            }
+        }
+        for (Path file : files()) {
+            if (file.toString().endsWith(".idx")) {
+                Files.delete(file);
+            }
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            for (int i = 0; i < 100; i++) {
+                assertThat(cache.get(commit(i), PARENT), is(changes(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testCorruptEntryIsAMiss() throws IOException {
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            cache.put(commit(1), PARENT, changes(1));
+            cache.put(commit(2), PARENT, changes(2));
+        }
+        // the last bytes of the pack are the payload and checksum of the second entry
+        Path pack = pack();
+        try (RandomAccessFile file = new RandomAccessFile(pack.toFile(), "rw")) {
+            file.seek(file.length() - 10);
+            int value = file.read();
+            file.seek(file.length() - 10);
+            file.write(value ^ 0xff);
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            assertThat(cache.get(commit(1), PARENT), is(changes(1)));
+            assertThat(cache.get(commit(2), PARENT), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testEntryCutOffByAnAbortedScanIsAMiss() throws IOException {
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            cache.put(commit(1), PARENT, changes(1));
+            cache.put(commit(2), PARENT, changes(2));
+        }
+        Path pack = pack();
+        Files.delete(indexOf(pack));
+        try (RandomAccessFile file = new RandomAccessFile(pack.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            assertThat(cache.get(commit(1), PARENT), is(changes(1)));
+            assertThat(cache.get(commit(2), PARENT), is(nullValue()));
+            // and the cache goes on with a pack of its own
+            cache.put(commit(3), PARENT, changes(3));
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            assertThat(cache.get(commit(3), PARENT), is(changes(3)));
+        }
+    }
+
+    @Test
+    public void testAnotherPolicyHasOtherEntries() throws IOException {
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, MAX_SIZE)) {
+            cache.put(commit(1), PARENT, changes(1));
+        }
+        GitDiffPolicy otherPolicy = new GitDiffPolicy(GitDiffPolicy.RenameDetection.EXACT, 0, 0, false, true, 1024, Collections.emptyList());
+        try (GitDiffCache cache = new GitDiffCache(directory, otherPolicy, MAX_SIZE)) {
+            assertThat(cache.get(commit(1), PARENT), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testBlameEntriesAreKeyedByBlobAndPath() throws IOException {
+        Map<String, Integer> linesByAuthor = Collections.singletonMap("Alice <alice@example.com>", 3);
+        try (GitBlameCache cache = new GitBlameCache(directory, MAX_SIZE)) {
+            cache.put(commit(1), "src/Main.java", linesByAuthor);
+        }
+        try (GitBlameCache cache = new GitBlameCache(directory, MAX_SIZE)) {
+            assertThat(cache.get(commit(1), "src/Main.java"), is(linesByAuthor));
+            assertThat(cache.get(commit(1), "src/Other.java"), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testOldestPacksAreEvicted() throws IOException {
+        long maxSize = 512 * 1024;
+        for (int scan = 0; scan < 10; scan++) {
+            try (GitDiffCache cache = new GitDiffCache(directory, POLICY, maxSize)) {
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(commit(scan * 1000 + i), PARENT, changes(i));
+                }
+            }
+            assertThat(size(), is(lessThanOrEqualTo(maxSize)));
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, maxSize)) {
+            assertThat(cache.get(commit(0), PARENT), is(nullValue()));
+            assertThat(cache.get(commit(9999), PARENT), is(changes(999)));
+        }
+    }
+
+    @Test
+    public void testEntriesInUseSurviveEviction() throws IOException {
+        long maxSize = 512 * 1024;
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, maxSize)) {
+            cache.put(commit(0), PARENT, changes(0));
+        }
+        for (int scan = 1; scan < 10; scan++) {
+            try (GitDiffCache cache = new GitDiffCache(directory, POLICY, maxSize)) {
+                assertThat(cache.get(commit(0), PARENT), is(notNullValue()));
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(commit(scan * 1000 + i), PARENT, changes(i));
+                }
+            }
+        }
+        try (GitDiffCache cache = new GitDiffCache(directory, POLICY, maxSize)) {
+            assertThat(cache.get(commit(0), PARENT), is(changes(0)));
+        }
+    }
+
+    private static ObjectId commit(final int number) {
+        return ObjectId.fromString(String.format("%040x", number + 1L));
+    }
+
+    private static List<GitChange> changes(final int number) {
+        List<GitChange> changes = new ArrayList<>();
+        changes.add(new GitChange("MODIFY", "src/File" + number + ".java", "src/File" + number + ".java", number, 1));
+        changes.add(new GitChange("ADD", "/dev/null", "src/New" + number + ".java", null, null));
+        return changes;
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    private Path pack() throws IOException {
+        return files().stream().filter(file -> file.toString().endsWith(".pack")).findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    private long size() throws IOException {
+        long size = 0;
+        for (Path file : files()) {
+            size += Files.size(file);
+        }
+        return size;
+    }
+
+    private static Path indexOf(final Path pack) {
+        return pack.resolveSibling(pack.getFileName().toString().replace(".pack", ".idx"));
+    }
+}
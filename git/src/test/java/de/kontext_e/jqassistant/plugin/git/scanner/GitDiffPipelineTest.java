@@ -0,0 +1,85 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GitDiffPipelineTest {
+    // more than two batches of 64 commits for every thread
+    private static final int COMMITS = 600;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GitFixture fixture;
+    private final List<String> shasNewestFirst = new ArrayList<>();
+
+    @Before
+    public void createHistory() throws IOException, GitAPIException {
+        fixture = new GitFixture(folder.newFolder());
+        for (int i = 0; i < COMMITS; i++) {
+            fixture.write("file" + (i % 7) + ".txt", "version " + i + "\n");
+            RevCommit commit = fixture.commit("Commit " + i);
+            shasNewestFirst.add(0, commit.name());
+        }
+    }
+
+    @After
+    public void close() {
+        fixture.close();
+    }
+
+    @Test
+    public void testCommitsAreHandedOverInWalkOrderWithSeveralThreads() throws IOException {
+        List<Thread> threads = new ArrayList<>();
+        List<GitCommit> commits = walk(4, threads);
+
+        assertThat(shas(commits), is(shasNewestFirst));
+        assertThat(threads, everyItem(is(Thread.currentThread())));
+    }
+
+    @Test
+    public void testSeveralThreadsComputeTheSameChangesAsOne() throws IOException {
+        List<GitCommit> commits = walk(1, new ArrayList<>());
+        List<GitCommit> concurrentCommits = walk(3, new ArrayList<>());
+
+        assertThat(shas(concurrentCommits), is(shas(commits)));
+        for (int i = 0; i < commits.size(); i++) {
+            assertThat(concurrentCommits.get(i).getGitChanges(), is(commits.get(i).getGitChanges()));
+        }
+        // the root commit is not diffed, the next six add their files, every later one modifies one
+        assertThat(commits.get(COMMITS - 2).getGitChanges().get(0).getModificationKind(), is("A"));
+        assertThat(commits.get(0).getGitChanges().get(0).getModificationKind(), is("M"));
+    }
+
+    private List<GitCommit> walk(final int diffThreads, final List<Thread> consumerThreads) throws IOException {
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setDiffThreads(diffThreads);
+        List<GitCommit> commits = new ArrayList<>();
+        try (JGitScanner jGitScanner = new JGitScanner(fixture.getGitDirectory(), configuration)) {
+            jGitScanner.walkCommits(Collections.emptyList(), commit -> {
+                commits.add(commit);
+                consumerThreads.add(Thread.currentThread());
+            });
+        }
+        return commits;
+    }
+
+    private static List<String> shas(final List<GitCommit> commits) {
+        List<String> shas = new ArrayList<>();
+        commits.forEach(commit -> shas.add(commit.getSha()));
+        return shas;
+    }
+}
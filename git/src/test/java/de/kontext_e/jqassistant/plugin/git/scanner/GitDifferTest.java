@@ -0,0 +1,208 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class GitDifferTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GitFixture fixture;
+
+    @Before
+    public void createFixture() throws IOException, GitAPIException {
+        fixture = new GitFixture(folder.newFolder());
+    }
+
+    @After
+    public void close() {
+        fixture.close();
+    }
+
+    @Test
+    public void testExactRenamesArePairedByBlobId() throws IOException, GitAPIException {
+        RevCommit commit = moveTwoFiles();
+
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.EXACT, 0, 0)),
+                   containsInAnyOrder("RENAME unchanged.txt -> moved.txt",
+                                      "DELETE edited.txt -> /dev/null",
+                                      "ADD /dev/null -> renamed.txt"));
+    }
+
+    @Test
+    public void testSimilarityFindsModifiedRenames() throws IOException, GitAPIException {
+        RevCommit commit = moveTwoFiles();
+
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.SIMILARITY, 0, 0)),
+                   containsInAnyOrder("RENAME unchanged.txt -> moved.txt",
+                                      "RENAME edited.txt -> renamed.txt"));
+    }
+
+    @Test
+    public void testWithoutRenameDetectionEveryMoveIsDeleteAndAdd() throws IOException, GitAPIException {
+        RevCommit commit = moveTwoFiles();
+
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.OFF, 0, 0)),
+                   containsInAnyOrder("DELETE unchanged.txt -> /dev/null",
+                                      "ADD /dev/null -> moved.txt",
+                                      "DELETE edited.txt -> /dev/null",
+                                      "ADD /dev/null -> renamed.txt"));
+    }
+
+    @Test
+    public void testRenameLimitStopsComparingContents() throws IOException, GitAPIException {
+        fixture.write("first.txt", lines("first", 10)).write("second.txt", lines("second", 10)).commit("Add files");
+        fixture.move("first.txt", "first-renamed.txt").write("first-renamed.txt", lines("first", 10) + "more\n");
+        fixture.move("second.txt", "second-renamed.txt").write("second-renamed.txt", lines("second", 10) + "more\n");
+        RevCommit commit = fixture.commit("Rename and edit both");
+
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.SIMILARITY, 1, 0)),
+                   containsInAnyOrder("DELETE first.txt -> /dev/null",
+                                      "ADD /dev/null -> first-renamed.txt",
+                                      "DELETE second.txt -> /dev/null",
+                                      "ADD /dev/null -> second-renamed.txt"));
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.SIMILARITY, 2, 0)),
+                   containsInAnyOrder("RENAME first.txt -> first-renamed.txt",
+                                      "RENAME second.txt -> second-renamed.txt"));
+    }
+
+    @Test
+    public void testMaxFilesStopsRenameDetection() throws IOException, GitAPIException {
+        fixture.write("moved.txt", lines("moved", 3)).write("edited.txt", lines("edited", 3)).commit("Add files");
+        fixture.move("moved.txt", "sub/moved.txt").write("edited.txt", lines("edited", 4));
+        RevCommit commit = fixture.commit("Move one, edit the other");
+
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.EXACT, 0, 2)),
+                   containsInAnyOrder("DELETE moved.txt -> /dev/null",
+                                      "ADD /dev/null -> sub/moved.txt",
+                                      "MODIFY edited.txt -> edited.txt"));
+        assertThat(diff(commit, policy(GitDiffPolicy.RenameDetection.EXACT, 0, 3)),
+                   containsInAnyOrder("RENAME moved.txt -> sub/moved.txt",
+                                      "MODIFY edited.txt -> edited.txt"));
+    }
+
+    @Test
+    public void testFirstParentDiffsMergesAgainstTheFirstParentOnly() throws IOException, GitAPIException {
+        fixture.write("README.md", "Readme\n").commit("Initial commit");
+        fixture.branch("feature");
+        fixture.write("master.txt", "master\n").commit("Work on master");
+        fixture.checkout("feature");
+        fixture.write("feature.txt", "feature\n").commit("Work on feature");
+        fixture.checkout("master");
+        RevCommit merge = fixture.merge("feature", "Merge feature");
+
+        assertThat(diff(merge, policy(GitDiffPolicy.RenameDetection.EXACT, 0, 0)),
+                   containsInAnyOrder("ADD /dev/null -> feature.txt",
+                                      "ADD /dev/null -> master.txt"));
+        GitDiffPolicy firstParent = new GitDiffPolicy(GitDiffPolicy.RenameDetection.EXACT, 0, 0, true, false, 0, Collections.emptyList());
+        assertThat(diff(merge, firstParent), containsInAnyOrder("ADD /dev/null -> feature.txt"));
+    }
+
+    @Test
+    public void testPathsFilterTheChanges() throws IOException, GitAPIException {
+        fixture.write("README.md", "Readme\n").commit("Initial commit");
+        fixture.write("src/Main.java", "class Main {}\n").write("src-old/Main.java", "class Main {}\n").write("README.md", "More\n");
+        RevCommit commit = fixture.commit("Add sources");
+
+        GitDiffPolicy paths = new GitDiffPolicy(GitDiffPolicy.RenameDetection.EXACT, 0, 0, false, false, 0, Collections.singletonList("src"));
+        assertThat(diff(commit, paths), containsInAnyOrder("ADD /dev/null -> src/Main.java"));
+    }
+
+    @Test
+    public void testChurnCountsTheAddedAndDeletedLines() throws IOException, GitAPIException {
+        fixture.write("file.txt", "a\nb\nc\n").write("moved.txt", "moved\n").commit("Add files");
+        fixture.write("file.txt", "a\nB\nc\nd\n").move("moved.txt", "sub/moved.txt");
+        RevCommit commit = fixture.commit("Edit and move");
+
+        assertThat(churn(commit, 1024), containsInAnyOrder("file.txt +2 -1", "sub/moved.txt +0 -0"));
+    }
+
+    @Test
+    public void testBinaryAndTooLargeFilesCountNoLines() throws IOException, GitAPIException {
+        fixture.write("image.bin", new byte[] {1, 0, 2, 0, 3}).write("large.txt", lines("large", 100)).commit("Add files");
+        fixture.write("image.bin", new byte[] {1, 0, 2, 0, 3, 0, 4}).write("large.txt", lines("large", 101));
+        RevCommit commit = fixture.commit("Edit files");
+
+        assertThat(churn(commit, 1024), containsInAnyOrder("image.bin +0 -0", "large.txt +0 -0"));
+        assertThat(churn(commit, 1024 * 1024), containsInAnyOrder("image.bin +0 -0", "large.txt +1 -0"));
+    }
+
+    @Test
+    public void testWithoutChurnNoLinesAreCounted() throws IOException, GitAPIException {
+        fixture.write("file.txt", "a\n").commit("Add file");
+        RevCommit commit = fixture.write("file.txt", "a\nb\n").commit("Edit file");
+
+        GitChange change = changes(commit, policy(GitDiffPolicy.RenameDetection.EXACT, 0, 0)).get(0);
+        assertThat(change.getLinesAdded(), is(nullValue()));
+        assertThat(change.getLinesDeleted(), is(nullValue()));
+    }
+
+    private RevCommit moveTwoFiles() throws IOException, GitAPIException {
+        fixture.write("unchanged.txt", lines("unchanged", 10)).write("edited.txt", lines("edited", 10)).commit("Add files");
+        fixture.move("unchanged.txt", "moved.txt");
+        fixture.move("edited.txt", "renamed.txt").write("renamed.txt", lines("edited", 10) + "one more line\n");
+        return fixture.commit("Move files");
+    }
+
+    private static String lines(final String prefix, final int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            lines.append(prefix).append(" line ").append(i).append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static GitDiffPolicy policy(final GitDiffPolicy.RenameDetection renameDetection, final int renameLimit, final int maxFiles) {
+        return new GitDiffPolicy(renameDetection, renameLimit, maxFiles, false, false, 0, Collections.emptyList());
+    }
+
+    private List<GitChange> changes(final RevCommit commit, final GitDiffPolicy policy) throws IOException {
+        try (RevWalk revWalk = new RevWalk(fixture.getRepository());
+             GitDiffer differ = new GitDiffer(fixture.getRepository(), policy, null)) {
+            RevCommit parsed = revWalk.parseCommit(commit);
+            ObjectId[] parents = new ObjectId[parsed.getParentCount()];
+            ObjectId[] parentTrees = new ObjectId[parsed.getParentCount()];
+            for (int i = 0; i < parents.length; i++) {
+                RevCommit parent = revWalk.parseCommit(parsed.getParent(i));
+                parents[i] = parent.getId();
+                parentTrees[i] = parent.getTree().getId();
+            }
+            GitCommit gitCommit = new GitCommit(parsed.name());
+            differ.addChanges(new GitDiffJob(gitCommit, parsed.getId(), parsed.getTree().getId(), parents, parentTrees));
+            return gitCommit.getGitChanges();
+        }
+    }
+
+    private List<String> churn(final RevCommit commit, final int churnMaxBlobSize) throws IOException {
+        GitDiffPolicy churn = new GitDiffPolicy(GitDiffPolicy.RenameDetection.EXACT, 0, 0, false, true, churnMaxBlobSize, Collections.emptyList());
+        List<String> lines = new ArrayList<>();
+        for (GitChange change : changes(commit, churn)) {
+            lines.add(change.getRelativePath() + " +" + change.getLinesAdded() + " -" + change.getLinesDeleted());
+        }
+        return lines;
+    }
+
+    private List<String> diff(final RevCommit commit, final GitDiffPolicy policy) throws IOException {
+        List<String> changes = new ArrayList<>();
+        for (GitChange change : changes(commit, policy)) {
+            changes.add(change.getChangeType() + " " + change.getOldPath() + " -> " + change.getNewPath());
+        }
+        return changes;
+    }
+}
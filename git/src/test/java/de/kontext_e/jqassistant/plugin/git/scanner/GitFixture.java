@@ -0,0 +1,115 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.TimeZone;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.MergeCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+/**
+ * A Git repository the tests build commit by commit. Every commit is a minute younger than the one before, so the
+ * history walk hands out the commits in a fixed order, newest first.
+ */
+class GitFixture implements AutoCloseable {
+    static final PersonIdent ALICE = new PersonIdent("Alice", "alice@example.com");
+    static final PersonIdent BOB = new PersonIdent("Bob", "bob@example.com");
+
+    private final Git git;
+    private final File workTree;
+    private long time = 1500000000000L;
+
+    GitFixture(final File workTree) throws GitAPIException {
+        this.workTree = workTree;
+        this.git = Git.init().setDirectory(workTree).call();
+    }
+
+    Git getGit() {
+        return git;
+    }
+
+    Repository getRepository() {
+        return git.getRepository();
+    }
+
+    File getWorkTree() {
+        return workTree;
+    }
+
+    String getGitDirectory() {
+        return git.getRepository().getDirectory().getAbsolutePath();
+    }
+
+    GitFixture write(final String path, final String content) throws IOException {
+        return write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    GitFixture write(final String path, final byte[] content) throws IOException {
+        File file = new File(workTree, path);
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content);
+        return this;
+    }
+
+    GitFixture delete(final String path) throws IOException {
+        Files.delete(new File(workTree, path).toPath());
+        return this;
+    }
+
+    GitFixture move(final String from, final String to) throws IOException {
+        File target = new File(workTree, to);
+        Files.createDirectories(target.getParentFile().toPath());
+        Files.move(new File(workTree, from).toPath(), target.toPath());
+        return this;
+    }
+
+    RevCommit commit(final String message) throws GitAPIException {
+        return commit(message, ALICE);
+    }
+
+    /**
+     * Commits everything in the work tree, including deleted files.
+     */
+    RevCommit commit(final String message, final PersonIdent author) throws GitAPIException {
+        git.add().addFilepattern(".").call();
+        git.add().addFilepattern(".").setUpdate(true).call();
+        PersonIdent ident = nextIdent(author);
+        return git.commit().setMessage(message).setAuthor(ident).setCommitter(ident).call();
+    }
+
+    void branch(final String name) throws GitAPIException {
+        git.branchCreate().setName(name).call();
+    }
+
+    void checkout(final String name) throws GitAPIException {
+        git.checkout().setName(name).call();
+    }
+
+    /**
+     * Merges the branch into the current one with a merge commit, even if it could be fast forwarded.
+     */
+    RevCommit merge(final String branch, final String message) throws GitAPIException, IOException {
+        git.merge().include(getRepository().resolve(branch))
+           .setFastForward(MergeCommand.FastForwardMode.NO_FF)
+           .setCommit(false)
+           .call();
+        PersonIdent ident = nextIdent(ALICE);
+        return git.commit().setMessage(message).setAuthor(ident).setCommitter(ident).call();
+    }
+
+    PersonIdent nextIdent(final PersonIdent person) {
+        time += 60000;
+        return new PersonIdent(person.getName(), person.getEmailAddress(), new Date(time), TimeZone.getTimeZone("UTC"));
+    }
+
+    @Override
+    public void close() {
+        git.close();
+    }
+}
@@ -0,0 +1,51 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class GitMailmapTest {
+
+    private static final GitMailmap MAILMAP = GitMailmap.parse("# comment\n" +
+                                                               "Proper Name <commit@example.com>\n" +
+                                                               "<proper@example.com> <old@example.com>\n" +
+                                                               "Other Name <other@example.com> <shared@example.com>\n" +
+                                                               "Jo Doe <jo@example.com> jdoe <SHARED@example.com>\r\n");
+
+    @Test
+    public void testProperName() {
+        assertThat(map("Nick", "Commit@Example.com"), is("Proper Name <Commit@Example.com>"));
+    }
+
+    @Test
+    public void testProperEmail() {
+        assertThat(map("Some Name", "old@example.com"), is("Some Name <proper@example.com>"));
+    }
+
+    @Test
+    public void testCommitNameWins() {
+        assertThat(map("JDoe", "shared@example.com"), is("Jo Doe <jo@example.com>"));
+        assertThat(map("Someone", "shared@example.com"), is("Other Name <other@example.com>"));
+    }
+
+    @Test
+    public void testUnmapped() {
+        GitIdentity identity = new GitIdentity("Nobody", "nobody@example.com");
+        assertThat(MAILMAP.map(identity), sameInstance(identity));
+    }
+
+    @Test
+    public void testIdentitiesAreInterned() {
+        GitIdentities identities = new GitIdentities(MAILMAP);
+
+        GitIdentity mapped = identities.get(identities.getRaw("Nick", "commit@example.com"));
+        assertThat(identities.get(identities.parseRaw("Proper Name <commit@example.com>")), sameInstance(mapped));
+        assertThat(identities.getRaw("Nick", "commit@example.com"), sameInstance(identities.parseRaw("Nick <commit@example.com>")));
+    }
+
+    private static String map(final String name, final String email) {
+        return MAILMAP.map(new GitIdentity(name, email)).getIdentString();
+    }
+}
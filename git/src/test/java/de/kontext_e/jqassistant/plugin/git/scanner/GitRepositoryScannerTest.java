@@ -0,0 +1,246 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.List;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class GitRepositoryScannerTest {
+    private static final String COMMITS = "MATCH (:Git:Repository)-[:HAS_COMMIT]->(commit:Git:Commit) RETURN commit.sha";
+    private static final String PARENTS = "MATCH (commit:Git:Commit)-[:HAS_PARENT]->(parent:Git:Commit) RETURN commit.sha + ' -> ' + parent.sha";
+    private static final String REFS = "MATCH (:Git:Repository)-[:HAS_BRANCH]->(branch:Git:Branch)-[:HAS_HEAD]->(commit:Git:Commit) " +
+                                       "RETURN branch.name + ' -> ' + commit.sha AS ref " +
+                                       "UNION ALL " +
+                                       "MATCH (:Git:Repository)-[:HAS_TAG]->(tag:Git:Tag)-[:ON_COMMIT]->(commit:Git:Commit) " +
+                                       "RETURN 'tags/' + tag.label + ' -> ' + commit.sha AS ref " +
+                                       "UNION ALL " +
+                                       "MATCH (:Git:Repository)-[:HAS_HEAD]->(commit:Git:Commit) " +
+                                       "RETURN 'HEAD -> ' + commit.sha AS ref";
+    private static final String TAGS = "MATCH (tag:Git:Tag) RETURN tag.label";
+    private static final String MODIFIES = "MATCH (commit:Git:Commit)-[:CONTAINS_CHANGE]->(change:Git:Change)-[:MODIFIES]->(file:Git:File) " +
+                                           "RETURN commit.sha + ' ' + change.modificationKind + ' ' + file.relativePath";
+    private static final String AUTHORED_BY = "MATCH (file:Git:File)-[authorship:AUTHORED_BY]->(author:Git:Author) " +
+                                              "RETURN file.relativePath + ' ' + author.identString + ' ' + authorship.lines";
+    private static final String FILES = "MATCH (:Git:Repository)-[:HAS_FILE]->(file:Git:File) WHERE file.changeCount IS NOT NULL " +
+                                        "RETURN file.relativePath + ' changes=' + file.changeCount + ' authors=' + file.authorCount + " +
+                                        "' first=' + file.firstChangeAtEpoch + ' last=' + file.lastChangeAtEpoch + " +
+                                        "' +' + file.linesAdded + ' -' + file.linesDeleted";
+    private static final String CO_CHANGES = "MATCH (file:Git:File)-[coChange:CHANGED_WITH]->(coChangedFile:Git:File) " +
+                                             "RETURN file.relativePath + ' ' + coChangedFile.relativePath + ' ' + coChange.commits";
+    private static final String AUTHORS = "MATCH (author:Git:Author) RETURN author.identString";
+    private static final String COMMITTED = "MATCH (author:Git:Author)-[:COMMITTED]->(commit:Git:Commit) RETURN author.identString + ' ' + commit.sha";
+
+    private static final PersonIdent CAROL = new PersonIdent("Carol", "carol@example.com");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GitFixture fixture;
+    private GitStoreFixture incrementalStore;
+    private GitStoreFixture fullStore;
+
+    @Before
+    public void createFixtures() throws IOException, GitAPIException {
+        fixture = new GitFixture(folder.newFolder());
+        incrementalStore = new GitStoreFixture(folder.newFolder());
+        fullStore = new GitStoreFixture(folder.newFolder());
+    }
+
+    @After
+    public void close() {
+        fullStore.close();
+        incrementalStore.close();
+        fixture.close();
+    }
+
+    @Test
+    public void testIncrementalScanEqualsFullScan() throws IOException, GitAPIException {
+        fixture.write("README.md", "Readme\n").commit("Initial commit");
+        fixture.getGit().tag().setName("old").call();
+        fixture.write("src/Main.java", "class Main {}\n").commit("Add main", GitFixture.BOB);
+        fixture.branch("feature");
+        RevCommit released = fixture.write("src/Main.java", "class Main { }\n").commit("Format main");
+        fixture.getGit().tag().setName("release").call();
+        GitScannerConfiguration configuration = incrementalConfiguration();
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        // a new line of development merged back, a moved branch and a deleted tag
+        fixture.checkout("feature");
+        RevCommit feature = fixture.write("src/Feature.java", "class Feature {}\n").commit("Add feature", GitFixture.BOB);
+        fixture.checkout("master");
+        fixture.write("README.md", "Readme\nMore\n").commit("Extend readme");
+        RevCommit merge = fixture.merge("feature", "Merge feature");
+        fixture.getGit().tagDelete().setTags("old").call();
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+        fullStore.scan(fixture.getGitDirectory(), new GitScannerConfiguration());
+
+        assertThat(incrementalStore.query(COMMITS).size(), is(6));
+        assertThat(incrementalStore.query(COMMITS), is(fullStore.query(COMMITS)));
+        assertThat(incrementalStore.query(PARENTS), hasItem(merge.name() + " -> " + feature.name()));
+        assertThat(incrementalStore.query(PARENTS).size(), is(6));
+        assertThat(incrementalStore.query(PARENTS), is(fullStore.query(PARENTS)));
+        assertThat(incrementalStore.query(REFS), hasItem("heads/feature -> " + feature.name()));
+        assertThat(incrementalStore.query(REFS), hasItem("HEAD -> " + merge.name()));
+        assertThat(incrementalStore.query(REFS), hasItem("tags/release -> " + released.name()));
+        assertThat(incrementalStore.query(REFS), is(fullStore.query(REFS)));
+        assertThat(incrementalStore.query(TAGS), contains("release"));
+    }
+
+    @Test
+    public void testIncrementalScanWithoutNewCommitsChangesNothing() throws IOException, GitAPIException {
+        fixture.write("README.md", "Readme\n").commit("Initial commit");
+        fixture.write("README.md", "Readme\nMore\n").commit("Extend readme");
+        GitScannerConfiguration configuration = incrementalConfiguration();
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+        List<String> parents = incrementalStore.query(PARENTS);
+        List<String> refs = incrementalStore.query(REFS);
+
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        assertThat(incrementalStore.query(COMMITS).size(), is(2));
+        assertThat(incrementalStore.query(PARENTS), is(parents));
+        assertThat(incrementalStore.query(REFS), is(refs));
+        assertThat(refs, not(hasItem("HEAD -> null")));
+    }
+
+    @Test
+    public void testIncrementalFileStatisticsEqualFullScan() throws IOException, GitAPIException {
+        fixture.write("shared.txt", "one\n").write("early.txt", "early\n").commit("Add files");
+        fixture.write("shared.txt", "one\ntwo\n").commit("Extend shared", GitFixture.BOB);
+        GitScannerConfiguration configuration = incrementalConfiguration();
+        configuration.setChurn(true);
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        // Bob is a known author of shared.txt, Carol a new one; late.txt is new. The root commit has no changes.
+        fixture.write("shared.txt", "one\nzwei\n").commit("Translate shared", GitFixture.BOB);
+        fixture.write("shared.txt", "one\nzwei\nthree\n").write("late.txt", "late\n").commit("Add late", CAROL);
+        fixture.delete("early.txt").commit("Delete early");
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+        GitScannerConfiguration fullConfiguration = new GitScannerConfiguration();
+        fullConfiguration.setChurn(true);
+        fullStore.scan(fixture.getGitDirectory(), fullConfiguration);
+
+        assertThat(incrementalStore.query(FILES).size(), is(3));
+        assertThat(incrementalStore.query(FILES), hasItem(startsWith("shared.txt changes=3 authors=2 ")));
+        assertThat(incrementalStore.query(FILES), hasItem(endsWith(" +3 -1")));
+        assertThat(incrementalStore.query(FILES), is(fullStore.query(FILES)));
+    }
+
+    @Test
+    public void testIncrementalScanAddsToKnownCoChanges() throws IOException, GitAPIException {
+        fixture.write("README.md", "Readme\n").commit("Initial commit");
+        fixture.write("a.txt", "a\n").write("b.txt", "b\n").commit("Add a and b");
+        fixture.write("c.txt", "c\n").write("d.txt", "d\n").commit("Add c and d");
+        fixture.write("c.txt", "c\nc\n").write("d.txt", "d\nd\n").commit("Edit c and d");
+        fixture.write("g.txt", "g\n").write("h.txt", "h\n").commit("Add g and h");
+        fixture.write("g.txt", "g\ng\n").write("h.txt", "h\nh\n").commit("Edit g and h");
+        GitScannerConfiguration configuration = incrementalConfiguration();
+        configuration.setCoChange(true);
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        assertThat(incrementalStore.query(CO_CHANGES), contains("c.txt d.txt 2", "g.txt h.txt 2"));
+
+        fixture.write("b.txt", "b\nb\n").write("a.txt", "a\na\n").commit("Edit a and b");
+        fixture.write("d.txt", "d\nd\nd\n").write("c.txt", "c\nc\nc\n").commit("Edit c and d again");
+        fixture.write("e.txt", "e\n").write("f.txt", "f\n").commit("Add e and f");
+        fixture.write("e.txt", "e\ne\n").write("f.txt", "f\nf\n").commit("Edit e and f");
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+        GitScannerConfiguration fullConfiguration = new GitScannerConfiguration();
+        fullConfiguration.setCoChange(true);
+        fullStore.scan(fixture.getGitDirectory(), fullConfiguration);
+
+        // a and b stayed below the minimum support in both scans, they are only related by a full scan
+        assertThat(incrementalStore.query(CO_CHANGES), contains("c.txt d.txt 3", "e.txt f.txt 2", "g.txt h.txt 2"));
+        assertThat(fullStore.query(CO_CHANGES), contains("a.txt b.txt 2", "c.txt d.txt 3", "e.txt f.txt 2", "g.txt h.txt 2"));
+    }
+
+    @Test
+    public void testBatchesKeepEveryLink() throws IOException, GitAPIException {
+        fixture.write("README.md", "Readme\n").commit("Initial commit");
+        fixture.branch("feature");
+        for (int i = 0; i < 5; i++) {
+            fixture.write("master.txt", "master " + i + "\n").commit("Work on master " + i);
+        }
+        fixture.checkout("feature");
+        for (int i = 0; i < 4; i++) {
+            fixture.write("feature.txt", "feature " + i + "\n").commit("Work on feature " + i, GitFixture.BOB);
+        }
+        fixture.checkout("master");
+        fixture.merge("feature", "Merge feature");
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setBatchSize(3);
+        Store store = mock(Store.class, delegatesTo(incrementalStore.getStore()));
+
+        incrementalStore.scan(fixture.getGitDirectory(), configuration, store);
+        fullStore.scan(fixture.getGitDirectory(), new GitScannerConfiguration());
+
+        // 11 commits in batches of 3, the parents of every batch are only walked in a later one; the merge
+        // changes a file against each of its parents
+        verify(store, atLeast(3)).commitTransaction();
+        assertThat(incrementalStore.query(PARENTS).size(), is(11));
+        assertThat(incrementalStore.query(PARENTS), is(fullStore.query(PARENTS)));
+        assertThat(incrementalStore.query(MODIFIES).size(), is(11));
+        assertThat(incrementalStore.query(MODIFIES), is(fullStore.query(MODIFIES)));
+        assertThat(incrementalStore.query(COMMITTED), is(fullStore.query(COMMITTED)));
+    }
+
+    @Test
+    public void testFilesAreAuthoredByTheAuthorsOfTheirLines() throws IOException, GitAPIException {
+        fixture.write("shared.txt", "one\ntwo\nthree\n").write("README.md", "Readme\n").commit("Add files");
+        fixture.write("shared.txt", "one\nTWO\nthree\nfour\n").commit("Edit shared", GitFixture.BOB);
+        GitScannerConfiguration configuration = incrementalConfiguration();
+        configuration.setBlameFiles("*.txt");
+        configuration.setDiffCacheDirectory(folder.newFolder());
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        assertThat(incrementalStore.query(AUTHORED_BY), contains("shared.txt Alice <alice@example.com> 2",
+                                                                 "shared.txt Bob <bob@example.com> 2"));
+
+        // the lines of HEAD replace those of the former scan
+        fixture.write("shared.txt", "one\nTWO\n").commit("Shorten shared", GitFixture.BOB);
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        assertThat(incrementalStore.query(AUTHORED_BY), contains("shared.txt Alice <alice@example.com> 1",
+                                                                 "shared.txt Bob <bob@example.com> 1"));
+    }
+
+    @Test
+    public void testMailmapIsOnlyAppliedOnRequest() throws IOException, GitAPIException {
+        fixture.write(".mailmap", "Alice <alice@example.com> <alice@old.example.com>\n").commit("Add mailmap");
+        fixture.write("README.md", "Readme\n").commit("Add readme", new PersonIdent("Alice", "alice@old.example.com"));
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setMailmap(true);
+
+        fullStore.scan(fixture.getGitDirectory(), new GitScannerConfiguration());
+        incrementalStore.scan(fixture.getGitDirectory(), configuration);
+
+        assertThat(fullStore.query(AUTHORS), contains("Alice <alice@example.com>", "Alice <alice@old.example.com>"));
+        assertThat(incrementalStore.query(AUTHORS), contains("Alice <alice@example.com>"));
+    }
+
+    private static GitScannerConfiguration incrementalConfiguration() {
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setIncremental(true);
+        return configuration;
+    }
+}
@@ -1,13 +1,35 @@
 package de.kontext_e.jqassistant.plugin.git.scanner;
 
+import com.buschmais.jqassistant.core.scanner.api.Scanner;
+import com.buschmais.jqassistant.core.scanner.api.ScannerContext;
+import com.buschmais.jqassistant.plugin.common.api.scanner.filesystem.FileResource;
 import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitRepositoryDescriptor;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test cases for GitScannerPlugin
@@ -20,6 +42,13 @@ import static org.mockito.Mockito.verify;
 
 public class GitScannerPluginTest {
     private static final boolean IS_WINDOWS = isWindows();
+    private static final String REPOSITORIES = "MATCH (repository:Git:Repository)-[:HAS_COMMIT]->(commit:Git:Commit) " +
+                                               "RETURN repository.name + ' ' + count(commit)";
+    private static final String SUBMODULES = "MATCH (repository:Git:Repository)-[:HAS_SUBMODULE]->(submodule:Git:Repository) " +
+                                             "RETURN repository.name + ' -> ' + submodule.name";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     private static final boolean isWindows () {
         // TODO: This is really ugly, isn't it?
@@ -77,4 +106,113 @@ public class GitScannerPluginTest {
         }
     }
 
+    @Test
+    public void testParseSinceDate () {
+        Date since = GitScannerPlugin.parseSince("2017-01-31", LocalDate.of(2017, 7, 15));
+
+        assertEquals(Date.from(LocalDate.of(2017, 1, 31).atStartOfDay(ZoneId.systemDefault()).toInstant()), since);
+    }
+
+    @Test
+    public void testParseSincePeriod () {
+        Date since = GitScannerPlugin.parseSince("P12M", LocalDate.of(2017, 7, 15));
+
+        assertEquals(Date.from(LocalDate.of(2016, 7, 15).atStartOfDay(ZoneId.systemDefault()).toInstant()), since);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseSinceInvalid () {
+        GitScannerPlugin.parseSince("last year", LocalDate.of(2017, 7, 15));
+    }
+
+    @Test
+    public void testRepositoryAndSubmoduleAreScannedOnce () throws IOException, GitAPIException {
+        try (GitFixture library = new GitFixture(folder.newFolder("library"));
+             GitFixture project = new GitFixture(folder.newFolder("project"));
+             GitStoreFixture store = new GitStoreFixture(folder.newFolder())) {
+            addSubmodule(project, library);
+            // the same repository offered by another path, e.g. by another module of the build
+            Path alias = Files.createSymbolicLink(new File(folder.getRoot(), "alias").toPath(), project.getWorkTree().toPath());
+            File aliasHead = alias.resolve(".git").resolve("HEAD").toFile();
+            GitScannerPlugin plugin = new GitScannerPlugin(submoduleConfiguration());
+            File projectHead = new File(project.getGitDirectory(), "HEAD");
+            assertThat(plugin.accepts(fileResource(aliasHead), "/HEAD", null), is(true));
+
+            scan(plugin, store, projectHead);
+
+            assertThat(store.query(REPOSITORIES), contains("lib 2", "project 1"));
+            assertThat(store.query(SUBMODULES), contains("project -> lib"));
+            assertThat(plugin.accepts(fileResource(projectHead), "/HEAD", null), is(false));
+            assertThat(plugin.accepts(fileResource(aliasHead), "/HEAD", null), is(false));
+        }
+    }
+
+    @Test
+    public void testFailedWorkerFailsTheScan () throws IOException, GitAPIException {
+        try (GitFixture library = new GitFixture(folder.newFolder("library"));
+             GitFixture project = new GitFixture(folder.newFolder("project"));
+             GitStoreFixture store = new GitStoreFixture(folder.newFolder())) {
+            File submoduleHead = addSubmodule(project, library);
+            // the submodule still has its refs, but the commits they point to are gone
+            try (Stream<Path> objects = Files.walk(new File(submoduleHead.getParentFile(), "objects").toPath())) {
+                for (Path object : objects.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    Files.delete(object);
+                }
+            }
+            GitScannerPlugin plugin = new GitScannerPlugin(submoduleConfiguration());
+
+            try {
+                scan(plugin, store, new File(project.getGitDirectory(), "HEAD"));
+                fail("The failure of the worker reading the submodule is not reported");
+            } catch (IOException e) {
+                assertThat(e, instanceOf(MissingObjectException.class));
+            }
+        }
+    }
+
+    /*
+     * @return The HEAD file of the submodule.
+     */
+    private static File addSubmodule (final GitFixture project, final GitFixture library) throws IOException, GitAPIException {
+        library.write("Library.java", "class Library {}\n").commit("Add library");
+        library.write("Library.java", "class Library { }\n").commit("Format library");
+        File submoduleHead;
+        try (Repository submodule = project.getGit().submoduleAdd().setPath("lib").setURI(library.getWorkTree().toURI().toString()).call()) {
+            submoduleHead = new File(submodule.getDirectory(), "HEAD");
+        }
+        project.commit("Add library as submodule");
+        return submoduleHead;
+    }
+
+    private static GitScannerConfiguration submoduleConfiguration () {
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setSubmodules(true);
+        configuration.setRepositoryThreads(2);
+        return configuration;
+    }
+
+    private static void scan (final GitScannerPlugin plugin, final GitStoreFixture store, final File head) throws IOException {
+        Scanner scanner = mock(Scanner.class);
+        ScannerContext context = mock(ScannerContext.class);
+        when(scanner.getContext()).thenReturn(context);
+        when(context.getStore()).thenReturn(store.getStore());
+        FileResource item = fileResource(head);
+        assertThat(plugin.accepts(item, "/HEAD", null), is(true));
+
+        store.getStore().beginTransaction();
+        try {
+            plugin.scan(item, "/HEAD", null, scanner);
+            store.getStore().commitTransaction();
+        } finally {
+            if (store.getStore().hasActiveTransaction()) {
+                store.getStore().rollbackTransaction();
+            }
+        }
+    }
+
+    private static FileResource fileResource (final File file) throws IOException {
+        FileResource item = mock(FileResource.class);
+        when(item.getFile()).thenReturn(file);
+        return item;
+    }
 }
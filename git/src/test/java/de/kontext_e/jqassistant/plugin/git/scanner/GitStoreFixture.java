@@ -0,0 +1,105 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.StoreConfiguration;
+import com.buschmais.jqassistant.core.store.impl.EmbeddedGraphStore;
+import com.buschmais.xo.api.Query;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitAuthorDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitAuthorshipDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitBranchDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitChangeDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitCoChangeDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitCommitDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitFileDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitRepositoryDescriptor;
+import de.kontext_e.jqassistant.plugin.git.store.descriptor.GitTagDescriptor;
+
+/**
+ * An embedded store the tests scan Git repositories into, like a scan with the plugin would.
+ */
+class GitStoreFixture implements AutoCloseable {
+    static final List<Class<?>> DESCRIPTOR_TYPES = Arrays.asList(GitDescriptor.class, GitBranchDescriptor.class,
+            GitRepositoryDescriptor.class, GitCommitDescriptor.class, GitChangeDescriptor.class, GitAuthorDescriptor.class,
+            GitFileDescriptor.class, GitTagDescriptor.class, GitAuthorshipDescriptor.class, GitCoChangeDescriptor.class);
+
+    private static final String FIND_REPOSITORY = "MATCH (repository:Git:Repository) WHERE repository.fileName = {fileName} RETURN repository";
+
+    private final Store store;
+
+    GitStoreFixture(final File directory) {
+        store = new EmbeddedGraphStore(StoreConfiguration.builder().uri(directory.toURI()).build());
+        store.start(DESCRIPTOR_TYPES);
+    }
+
+    Store getStore() {
+        return store;
+    }
+
+    /**
+     * Scans the repository in a transaction of its own; a repository scanned before is updated.
+     */
+    void scan(final String gitDirectory, final GitScannerConfiguration configuration) throws IOException {
+        scan(gitDirectory, configuration, store);
+    }
+
+    /**
+     * Scans with the given view of the store, e.g. one that counts the transactions.
+     */
+    void scan(final String gitDirectory, final GitScannerConfiguration configuration, final Store store) throws IOException {
+        store.beginTransaction();
+        try {
+            GitRepositoryDescriptor gitRepositoryDescriptor = null;
+            try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(FIND_REPOSITORY, Collections.singletonMap("fileName", gitDirectory))) {
+                if (result.hasResult()) {
+                    gitRepositoryDescriptor = result.getSingleResult().get("repository", GitRepositoryDescriptor.class);
+                }
+            }
+            if (gitRepositoryDescriptor == null) {
+                gitRepositoryDescriptor = store.create(GitRepositoryDescriptor.class);
+                gitRepositoryDescriptor.setName(new File(gitDirectory).getParentFile().getName());
+                gitRepositoryDescriptor.setFileName(gitDirectory);
+            }
+            new GitRepositoryScanner(store, gitRepositoryDescriptor, configuration).scanGitRepo();
+            store.commitTransaction();
+        } finally {
+            if (store.hasActiveTransaction()) {
+                store.rollbackTransaction();
+            }
+        }
+    }
+
+    /**
+     * @return The single column of every row the query returns, as strings in ascending order.
+     */
+    List<String> query(final String query) {
+        return query(query, Collections.emptyMap());
+    }
+
+    List<String> query(final String query, final Map<String, Object> parameters) {
+        List<String> rows = new ArrayList<>();
+        store.beginTransaction();
+        try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(query, parameters)) {
+            for (Query.Result.CompositeRowObject row : result) {
+                rows.add(String.valueOf(row.get(row.getColumns().get(0), Object.class)));
+            }
+        } finally {
+            store.commitTransaction();
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        store.stop();
+    }
+}
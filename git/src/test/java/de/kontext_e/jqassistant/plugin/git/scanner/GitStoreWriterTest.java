@@ -0,0 +1,74 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GitStoreWriterTest {
+
+    @Test
+    public void testWritesOfWorkersRunOnWriterThreadInOrder() throws IOException {
+        GitStoreWriter storeWriter = new GitStoreWriter();
+        Thread writerThread = Thread.currentThread();
+        List<Integer> written = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> worker = executor.submit(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    final int value = i;
+                    storeWriter.execute(() -> {
+                        written.add(value);
+                        threads.add(Thread.currentThread());
+                    });
+                }
+                return storeWriter.call(written::size);
+            });
+            storeWriter.drain(Arrays.asList(worker));
+
+            assertThat(written.size(), is(5000));
+            assertThat(written.get(4999), is(4999));
+            assertThat(threads, everyItem(is(writerThread)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWritesOnWriterThreadRunImmediately() throws IOException {
+        GitStoreWriter storeWriter = new GitStoreWriter();
+        List<String> written = new ArrayList<>();
+
+        storeWriter.execute(() -> written.add("a"));
+        written.add(storeWriter.call(() -> "b"));
+
+        assertThat(written, contains("a", "b"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailedWriteFailsDrain() throws IOException {
+        GitStoreWriter storeWriter = new GitStoreWriter();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> worker = executor.submit(() -> {
+                storeWriter.execute(() -> {
+                    throw new IllegalStateException("store is broken");
+                });
+                return null;
+            });
+            storeWriter.drain(Arrays.asList(worker));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,17 +2,23 @@ package de.kontext_e.jqassistant.plugin.git.scanner;
 
 import java.io.IOException;
 import java.util.List;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.LogCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.AnyObjectId;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -24,109 +30,208 @@ import static org.mockito.Mockito.when;
  */
 // TODO This is not a real Unit test! Make gradle run it in some kind of integration test phase!!!
 public class JGitScannerTest {
+    private static final String MESSAGE = "Add the scanner\n\nIt reads the whole history.";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Ignore("No unit test, depends on state of git repo")
     @Test
     public void testFindCommits () throws IOException {
-        JGitScanner jGitScanner = new JGitScanner("../.git", null);
-        List<GitCommit> commits = jGitScanner.findCommits ();
+        try (JGitScanner jGitScanner = new JGitScanner("../.git", null)) {
+            List<GitCommit> commits = jGitScanner.findCommits ();
 
-        assertThat (commits.size(), greaterThan (0));
+            assertThat (commits.size(), greaterThan (0));
+        }
     }
 
     @Ignore("No unit test, depends on state of git repo")
     @Test
     public void testFindTags () throws IOException {
-        JGitScanner jGitScanner = new JGitScanner("../.git", null);
-        List<GitTag> tags = jGitScanner.findTags ();
+        try (JGitScanner jGitScanner = new JGitScanner("../.git", null)) {
+            List<GitTag> tags = jGitScanner.findTags ();
 
-        assertThat (tags.size(), greaterThan (0));
+            assertThat (tags.size(), greaterThan (0));
+        }
     }
 
     @Test
     public void testRange () throws IOException {
-        Git git = mock(Git.class);
         Repository repository = mock(Repository.class);
-        LogCommand logCommand = mock(LogCommand.class);
         ObjectId a1 = mock(ObjectId.class);
         ObjectId a2 = mock(ObjectId.class);
 
-        when(git.getRepository()).thenReturn(repository);
-        when(git.log()).thenReturn(logCommand);
         when(repository.resolve("HEAD^^")).thenReturn(a1);
         when(repository.resolve("4a877e")).thenReturn(a2);
 
-        JGitScanner.getLogWithOrWithOutRange(git, "HEAD^^..4a877e");
-        verify(logCommand).addRange(a1, a2);
+        AnyObjectId[] sinceUntil = JGitScanner.resolveRange(repository, "HEAD^^..4a877e");
+        assertThat(sinceUntil, arrayContaining(a1, a2));
     }
 
 
     @Test
     public void testRangeNoUntil () throws IOException {
-        Git git = mock(Git.class);
         Repository repository = mock(Repository.class);
-        LogCommand logCommand = mock(LogCommand.class);
         ObjectId a1 = mock(ObjectId.class);
         ObjectId a2 = mock(ObjectId.class);
 
-        when(git.getRepository()).thenReturn(repository);
-        when(git.log()).thenReturn(logCommand);
         when(repository.resolve("HEAD^^")).thenReturn(a1);
         when(repository.resolve("HEAD")).thenReturn(a2);
 
-        JGitScanner.getLogWithOrWithOutRange(git, "HEAD^^..");
-        verify(logCommand).addRange(a1, a2);
+        AnyObjectId[] sinceUntil = JGitScanner.resolveRange(repository, "HEAD^^..");
+        assertThat(sinceUntil, arrayContaining(a1, a2));
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testRangeThreeDots () throws IOException {
-        Git git = mock(Git.class);
         Repository repository = mock(Repository.class);
-        LogCommand logCommand = mock(LogCommand.class);
-
-        when(git.getRepository()).thenReturn(repository);
-        when(git.log()).thenReturn(logCommand);
 
-        JGitScanner.getLogWithOrWithOutRange(git, "HEAD^^...master");
+        JGitScanner.resolveRange(repository, "HEAD^^...master");
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testRangeSingleDot () throws IOException {
-        Git git = mock(Git.class);
         Repository repository = mock(Repository.class);
-        LogCommand logCommand = mock(LogCommand.class);
 
-        when(git.getRepository()).thenReturn(repository);
-        when(git.log()).thenReturn(logCommand);
-
-        JGitScanner.getLogWithOrWithOutRange(git, "HEAD^^.master");
+        JGitScanner.resolveRange(repository, "HEAD^^.master");
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testRangeSinceDoesNotExist () throws IOException {
-        Git git = mock(Git.class);
         Repository repository = mock(Repository.class);
-        LogCommand logCommand = mock(LogCommand.class);
 
-        when(git.getRepository()).thenReturn(repository);
-        when(git.log()).thenReturn(logCommand);
         when(repository.resolve("NonExistingRev")).thenReturn(null);
 
-        JGitScanner.getLogWithOrWithOutRange(git, "NonExistingRev..master");
+        JGitScanner.resolveRange(repository, "NonExistingRev..master");
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testRangeUntilDoesNotExist () throws IOException {
-        Git git = mock(Git.class);
         Repository repository = mock(Repository.class);
-        LogCommand logCommand = mock(LogCommand.class);
         ObjectId a1 = mock(ObjectId.class);
 
-        when(git.getRepository()).thenReturn(repository);
-        when(git.log()).thenReturn(logCommand);
         when(repository.resolve("HEAD")).thenReturn(a1);
         when(repository.resolve("NonExistingRev")).thenReturn(null);
 
-        JGitScanner.getLogWithOrWithOutRange(git, "HEAD..NonExistingRev");
+        JGitScanner.resolveRange(repository, "HEAD..NonExistingRev");
+    }
+
+    @Test
+    public void testFullMessage () throws IOException, GitAPIException {
+        GitCommit commit = commitWithMessage(MESSAGE, GitScannerConfiguration.MessageMode.FULL, 0);
+
+        assertThat(commit.getMessage(), is(MESSAGE));
+        assertThat(commit.getShortMessage(), is("Add the scanner"));
+    }
+
+    @Test
+    public void testShortMessage () throws IOException, GitAPIException {
+        GitCommit commit = commitWithMessage(MESSAGE, GitScannerConfiguration.MessageMode.SHORT, 0);
+
+        assertThat(commit.getMessage(), is(nullValue()));
+        assertThat(commit.getShortMessage(), is("Add the scanner"));
+    }
+
+    @Test
+    public void testNoMessage () throws IOException, GitAPIException {
+        GitCommit commit = commitWithMessage(MESSAGE, GitScannerConfiguration.MessageMode.NONE, 0);
+
+        assertThat(commit.getMessage(), is(nullValue()));
+        assertThat(commit.getShortMessage(), is(nullValue()));
+    }
+
+    @Test
+    public void testMessageIsTruncated () throws IOException, GitAPIException {
+        GitCommit commit = commitWithMessage(MESSAGE, GitScannerConfiguration.MessageMode.FULL, 7);
+
+        assertThat(commit.getMessage(), is("Add the"));
+        assertThat(commit.getShortMessage(), is("Add the"));
+    }
+
+    @Test
+    public void testMessageAtTheLimitIsKept () throws IOException, GitAPIException {
+        GitCommit commit = commitWithMessage("Add it", GitScannerConfiguration.MessageMode.FULL, 6);
+
+        assertThat(commit.getMessage(), is("Add it"));
     }
 
+    @Test
+    public void testTruncationKeepsSurrogatePairs () throws IOException, GitAPIException {
+        // the smiley is a surrogate pair at index 4 and 5
+        String message = "Add \uD83D\uDE00 smiley";
+
+        assertThat(commitWithMessage(message, GitScannerConfiguration.MessageMode.FULL, 5).getMessage(), is("Add "));
+        assertThat(commitWithMessage(message, GitScannerConfiguration.MessageMode.FULL, 6).getMessage(), is("Add \uD83D\uDE00"));
+    }
+
+    @Test
+    public void testAnnotatedTag () throws IOException, GitAPIException {
+        try (GitFixture fixture = new GitFixture(folder.newFolder())) {
+            RevCommit commit = fixture.write("README.md", "Readme\n").commit("Initial commit");
+            PersonIdent tagger = fixture.nextIdent(GitFixture.BOB);
+            fixture.getGit().tag().setName("v1.0").setMessage("Release 1.0").setTagger(tagger).call();
+
+            GitTag tag = findTags(fixture, GitScannerConfiguration.MessageMode.FULL).get(0);
+
+            assertThat(tag.getLabel(), is("refs/tags/v1.0"));
+            assertThat(tag.getCommitSha(), is(commit.name()));
+            assertThat(tag.isAnnotated(), is(true));
+            assertThat(tag.getTagger().getIdentString(), is("Bob <bob@example.com>"));
+            assertThat(tag.getDate(), is(tagger.getWhen()));
+            assertThat(tag.getMessage(), is("Release 1.0"));
+        }
+    }
+
+    @Test
+    public void testAnnotatedTagWithoutMessage () throws IOException, GitAPIException {
+        try (GitFixture fixture = new GitFixture(folder.newFolder())) {
+            fixture.write("README.md", "Readme\n").commit("Initial commit");
+            fixture.getGit().tag().setName("v1.0").setMessage("Release 1.0").setTagger(fixture.nextIdent(GitFixture.BOB)).call();
+
+            GitTag tag = findTags(fixture, GitScannerConfiguration.MessageMode.NONE).get(0);
+
+            assertThat(tag.isAnnotated(), is(true));
+            assertThat(tag.getMessage(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testLightweightTag () throws IOException, GitAPIException {
+        try (GitFixture fixture = new GitFixture(folder.newFolder())) {
+            RevCommit commit = fixture.write("README.md", "Readme\n").commit("Initial commit");
+            fixture.getGit().tag().setName("v1.0").setAnnotated(false).call();
+
+            GitTag tag = findTags(fixture, GitScannerConfiguration.MessageMode.FULL).get(0);
+
+            assertThat(tag.getLabel(), is("refs/tags/v1.0"));
+            assertThat(tag.getCommitSha(), is(commit.name()));
+            assertThat(tag.isAnnotated(), is(false));
+            assertThat(tag.getTagger(), is(nullValue()));
+            assertThat(tag.getDate(), is(nullValue()));
+            assertThat(tag.getMessage(), is(nullValue()));
+        }
+    }
+
+    private static List<GitTag> findTags (final GitFixture fixture, final GitScannerConfiguration.MessageMode messageMode) throws IOException {
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setMessageMode(messageMode);
+        try (JGitScanner jGitScanner = new JGitScanner(fixture.getGitDirectory(), configuration)) {
+            List<GitTag> tags = jGitScanner.findTags();
+            assertThat(tags.size(), is(1));
+            return tags;
+        }
+    }
+
+    private GitCommit commitWithMessage (final String message, final GitScannerConfiguration.MessageMode messageMode,
+                                         final int messageMaxLength) throws IOException, GitAPIException {
+        GitScannerConfiguration configuration = new GitScannerConfiguration();
+        configuration.setMessageMode(messageMode);
+        configuration.setMessageMaxLength(messageMaxLength);
+        try (GitFixture fixture = new GitFixture(folder.newFolder())) {
+            fixture.write("README.md", "Readme\n").commit(message);
+            try (JGitScanner jGitScanner = new JGitScanner(fixture.getGitDirectory(), configuration)) {
+                return jGitScanner.findCommits().get(0);
+            }
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PairCounterTest {
+
+    @Test
+    public void testPairsAreUnordered() {
+        PairCounter counter = new PairCounter();
+        counter.increment(0, 1);
+        counter.increment(1, 0);
+        counter.add(3, 2, 5);
+
+        assertThat(counter.get(0, 1), is(2));
+        assertThat(counter.get(1, 0), is(2));
+        assertThat(counter.get(2, 3), is(5));
+        assertThat(counter.get(0, 2), is(0));
+        assertThat(counter.size(), is(2));
+    }
+
+    @Test
+    public void testForEach() {
+        PairCounter counter = new PairCounter();
+        counter.increment(7, 4);
+        counter.increment(7, 4);
+
+        List<String> pairs = new ArrayList<>();
+        counter.forEach((first, second, count) -> pairs.add(first + "-" + second + ":" + count));
+
+        assertThat(pairs, contains("4-7:2"));
+    }
+
+    @Test
+    public void testGrow() {
+        PairCounter counter = new PairCounter(1);
+        for (int i = 0; i < 100; i++) {
+            for (int j = i + 1; j < 100; j++) {
+                counter.increment(i, j);
+                counter.increment(j, i);
+            }
+        }
+
+        assertThat(counter.size(), is(4950));
+        for (int i = 0; i < 100; i++) {
+            for (int j = i + 1; j < 100; j++) {
+                assertThat(counter.get(i, j), is(2));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoPair() {
+        new PairCounter().increment(1, 1);
+    }
+}
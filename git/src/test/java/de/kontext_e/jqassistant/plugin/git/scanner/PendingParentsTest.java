@@ -0,0 +1,82 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PendingParentsTest {
+    private static final String PARENT = "7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5";
+    private static final String OTHER_PARENT = "916b13f99f3173347ab6e6d7636caa654e6198a6";
+
+    @Test
+    public void testRemoveHandsOverWaitingChildren() {
+        PendingParents pendingParents = new PendingParents();
+        pendingParents.add(PARENT, 1);
+        pendingParents.add(OTHER_PARENT, 2);
+        pendingParents.add(PARENT, 3);
+
+        List<Long> children = new ArrayList<>();
+        pendingParents.remove(PARENT, children::add);
+
+        assertThat(children, containsInAnyOrder(1L, 3L));
+        assertThat(pendingParents.size(), is(1));
+
+        children.clear();
+        pendingParents.remove(PARENT, children::add);
+        assertThat(children, is(empty()));
+    }
+
+    @Test
+    public void testForEachReportsTheRemainingPairs() {
+        PendingParents pendingParents = new PendingParents();
+        pendingParents.add(PARENT, 1);
+        pendingParents.add(OTHER_PARENT.toUpperCase(), 2);
+        pendingParents.remove(PARENT, child -> { });
+
+        List<String> pending = new ArrayList<>();
+        pendingParents.forEach((parentSha, childId) -> pending.add(parentSha + ":" + childId));
+
+        assertThat(pending, contains(OTHER_PARENT + ":2"));
+    }
+
+    @Test
+    public void testOnlyTheFrontOfTheWalkIsKept() {
+        PendingParents pendingParents = new PendingParents();
+        // a linear history, newest first: every commit waits for its parent, which is the next commit
+        for (int i = 0; i < 100000; i++) {
+            final long childId = i;
+            List<Long> children = new ArrayList<>();
+            pendingParents.remove(String.format("%040x", i * 7919L), children::add);
+            if (i > 0) {
+                assertThat(children, contains(childId - 1));
+            }
+            pendingParents.add(String.format("%040x", (i + 1) * 7919L), childId);
+            assertThat(pendingParents.size(), is(1));
+        }
+    }
+
+    @Test
+    public void testGrowAndRemoveKeepEveryParentReachable() {
+        PendingParents pendingParents = new PendingParents();
+        for (int i = 0; i < 10000; i++) {
+            pendingParents.add(String.format("%040x", i * 7919L), i);
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            pendingParents.remove(String.format("%040x", i * 7919L), child -> { });
+        }
+
+        assertThat(pendingParents.size(), is(5000));
+        for (int i = 1; i < 10000; i += 2) {
+            List<Long> children = new ArrayList<>();
+            pendingParents.remove(String.format("%040x", i * 7919L), children::add);
+            assertThat(children, contains((long) i));
+        }
+        assertThat(pendingParents.isEmpty(), is(true));
+    }
+}
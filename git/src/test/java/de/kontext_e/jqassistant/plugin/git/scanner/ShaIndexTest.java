@@ -0,0 +1,59 @@
+package de.kontext_e.jqassistant.plugin.git.scanner;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ShaIndexTest {
+
+    @Test
+    public void testGet() {
+        ShaIndex index = new ShaIndex();
+        index.put("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5", 0);
+        index.put("916b13f99f3173347ab6e6d7636caa654e6198a6", 42);
+
+        assertThat(index.get("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5"), is(0L));
+        assertThat(index.get("916b13f99f3173347ab6e6d7636caa654e6198a6"), is(42L));
+        assertThat(index.get("6ef39f671441e0fd384df21f570405e3d771d543"), is(ShaIndex.NOT_FOUND));
+        assertThat(index.size(), is(2));
+    }
+
+    @Test
+    public void testShasDifferingInLastWord() {
+        ShaIndex index = new ShaIndex();
+        index.put("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5", 1);
+        index.put("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b6", 2);
+
+        assertThat(index.get("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5"), is(1L));
+        assertThat(index.get("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b6"), is(2L));
+    }
+
+    @Test
+    public void testPutReplaces() {
+        ShaIndex index = new ShaIndex();
+        index.put("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5", 1);
+        index.put("7D1169DA5A8CCA6B0C4C4E06FDC8ABB5AB55E8B5", 2);
+
+        assertThat(index.get("7d1169da5a8cca6b0c4c4e06fdc8abb5ab55e8b5"), is(2L));
+        assertThat(index.size(), is(1));
+    }
+
+    @Test
+    public void testGrow() {
+        ShaIndex index = new ShaIndex(1);
+        for (int i = 0; i < 10000; i++) {
+            index.put(String.format("%040x", i * 7919L), i);
+        }
+
+        assertThat(index.size(), is(10000));
+        for (int i = 0; i < 10000; i++) {
+            assertThat(index.get(String.format("%040x", i * 7919L)), is((long) i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoSha() {
+        new ShaIndex().put("HEAD", 1);
+    }
+}
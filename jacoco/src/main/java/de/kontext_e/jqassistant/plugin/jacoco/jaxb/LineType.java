@@ -1,202 +0,0 @@
-//
-// Diese Datei wurde mit der JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.6 generiert 
-// Siehe <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
-// Änderungen an dieser Datei gehen bei einer Neukompilierung des Quellschemas verloren. 
-// Generiert: 2014.02.11 um 01:30:27 PM CET 
-//
-
-
-package de.kontext_e.jqassistant.plugin.jacoco.jaxb;
-
-import javax.xml.bind.annotation.XmlAccessType;
-import javax.xml.bind.annotation.XmlAccessorType;
-import javax.xml.bind.annotation.XmlAttribute;
-import javax.xml.bind.annotation.XmlType;
-import javax.xml.bind.annotation.XmlValue;
-
-
-/**
- * <p>Java-Klasse für lineType complex type.
- * 
- * <p>Das folgende Schemafragment gibt den erwarteten Content an, der in dieser Klasse enthalten ist.
- * 
- * <pre>
- * &lt;complexType name="lineType"&gt;
- *   &lt;simpleContent&gt;
- *     &lt;extension base="&lt;http://www.w3.org/2001/XMLSchema&gt;string"&gt;
- *       &lt;attribute name="nr" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="mi" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="ci" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="mb" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *       &lt;attribute name="cb" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
- *     &lt;/extension&gt;
- *   &lt;/simpleContent&gt;
- * &lt;/complexType&gt;
- * </pre>
- * 
- * 
- */
-@XmlAccessorType(XmlAccessType.FIELD)
-@XmlType(name = "lineType", propOrder = {
-    "value"
-})
-public class LineType {
-
-    @XmlValue
-    protected String value;
-    @XmlAttribute(name = "nr")
-    protected String nr;
-    @XmlAttribute(name = "mi")
-    protected String mi;
-    @XmlAttribute(name = "ci")
-    protected String ci;
-    @XmlAttribute(name = "mb")
-    protected String mb;
-    @XmlAttribute(name = "cb")
-    protected String cb;
-
-    /**
-     * Ruft den Wert der value-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getValue() {
-        return value;
-    }
-
-    /**
-     * Legt den Wert der value-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setValue(String value) {
-        this.value = value;
-    }
-
-    /**
-     * Ruft den Wert der nr-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getNr() {
-        return nr;
-    }
-
-    /**
-     * Legt den Wert der nr-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setNr(String value) {
-        this.nr = value;
-    }
-
-    /**
-     * Ruft den Wert der mi-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getMi() {
-        return mi;
-    }
-
-    /**
-     * Legt den Wert der mi-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setMi(String value) {
-        this.mi = value;
-    }
-
-    /**
-     * Ruft den Wert der ci-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getCi() {
-        return ci;
-    }
-
-    /**
-     * Legt den Wert der ci-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setCi(String value) {
-        this.ci = value;
-    }
-
-    /**
-     * Ruft den Wert der mb-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getMb() {
-        return mb;
-    }
-
-    /**
-     * Legt den Wert der mb-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setMb(String value) {
-        this.mb = value;
-    }
-
-    /**
-     * Ruft den Wert der cb-Eigenschaft ab.
-     * 
-     * @return
-     *     possible object is
-     *     {@link String }
-     *     
-     */
-    public String getCb() {
-        return cb;
-    }
-
-    /**
-     * Legt den Wert der cb-Eigenschaft fest.
-     * 
-     * @param value
-     *     allowed object is
-     *     {@link String }
-     *     
-     */
-    public void setCb(String value) {
-        this.cb = value;
-    }
-
-}
@@ -0,0 +1,135 @@
+package de.kontext_e.jqassistant.plugin.jacoco.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamReader;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoClassDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoCounterDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoMethodDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoPackageDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoReportDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkRelationWriter;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriter;
+import de.kontext_e.jqassistant.plugin.xmlreport.RelatedDescriptors;
+import de.kontext_e.jqassistant.plugin.xmlreport.Relations;
+import de.kontext_e.jqassistant.plugin.xmlreport.XmlReportReader;
+
+/**
+ * Streams a JaCoCo XML report into the store.
+ *
+ * Packages, classes, methods and the counters of methods are created while their elements are read, so only the
+ * current element is held in memory, however large the report is. Packages are found at any depth, also inside the
+ * groups of aggregated reports. The session infos, the source files with their lines and the counters of classes,
+ * packages and groups are skipped.
+ */
+class JacocoReportReader {
+
+    private final Store store;
+    private final Relations<JacocoReportDescriptor, JacocoPackageDescriptor> packages;
+    private final Relations<JacocoPackageDescriptor, JacocoClassDescriptor> classes;
+    private final Relations<JacocoClassDescriptor, JacocoMethodDescriptor> methods;
+    private final RelatedDescriptors<JacocoMethodDescriptor, JacocoCounterDescriptor> counters;
+
+    private JacocoPackageDescriptor currentPackage;
+    private JacocoClassDescriptor currentClass;
+    private JacocoMethodDescriptor currentMethod;
+
+    /**
+     * @param bulkImport Whether the counters and the relations of the packages, classes and methods are written in
+     *                   batches.
+     */
+    JacocoReportReader(final Store store, final boolean bulkImport) {
+        this.store = store;
+        if (bulkImport) {
+            packages = new BulkRelationWriter<>(store, JacocoReportDescriptor.class, JacocoPackageDescriptor.class);
+            classes = new BulkRelationWriter<>(store, JacocoPackageDescriptor.class, JacocoClassDescriptor.class);
+            methods = new BulkRelationWriter<>(store, JacocoClassDescriptor.class, JacocoMethodDescriptor.class);
+            counters = new BulkWriter<>(store, JacocoMethodDescriptor.class, JacocoCounterDescriptor.class);
+        } else {
+            packages = (jacocoReportDescriptor, jacocoPackageDescriptor) -> jacocoReportDescriptor.getJacocoPackages().add(jacocoPackageDescriptor);
+            classes = (jacocoPackageDescriptor, jacocoClassDescriptor) -> jacocoPackageDescriptor.getJacocoClasses().add(jacocoClassDescriptor);
+            methods = (jacocoClassDescriptor, jacocoMethodDescriptor) -> jacocoClassDescriptor.getJacocoMethods().add(jacocoMethodDescriptor);
+            counters = jacocoMethodDescriptor -> {
+                JacocoCounterDescriptor jacocoCounterDescriptor = store.create(JacocoCounterDescriptor.class);
+                jacocoMethodDescriptor.getJacocoCounters().add(jacocoCounterDescriptor);
+                return jacocoCounterDescriptor;
+            };
+        }
+    }
+
+    void read(final InputStream inputStream, final JacocoReportDescriptor jacocoReportDescriptor) throws IOException {
+        new XmlReportReader()
+                .on("package", reader -> startPackage(reader, jacocoReportDescriptor), () -> currentPackage = null)
+                .on("class", this::startClass, () -> currentClass = null)
+                .on("method", this::startMethod, () -> currentMethod = null)
+                .on("counter", this::startCounter)
+                .skip("sessioninfo", "sourcefile")
+                .read(inputStream, "JaCoCo");
+        packages.flush();
+        classes.flush();
+        methods.flush();
+        counters.flush();
+    }
+
+    private void startPackage(final XMLStreamReader reader, final JacocoReportDescriptor jacocoReportDescriptor) {
+        currentPackage = store.create(JacocoPackageDescriptor.class);
+        currentPackage.setName(reader.getAttributeValue(null, "name"));
+        packages.add(jacocoReportDescriptor, currentPackage);
+    }
+
+    private void startClass(final XMLStreamReader reader) {
+        if (null != currentPackage) {
+            currentClass = store.create(JacocoClassDescriptor.class);
+            currentClass.setName(reader.getAttributeValue(null, "name"));
+            currentClass.setFullQualifiedName(currentClass.getName().replaceAll("/", "."));
+            classes.add(currentPackage, currentClass);
+        }
+    }
+
+    private void startMethod(final XMLStreamReader reader) {
+        if (null != currentClass) {
+            String name = reader.getAttributeValue(null, "name");
+            currentMethod = store.create(JacocoMethodDescriptor.class);
+            currentMethod.setName(name);
+            currentMethod.setSignature(getMethodSignature(name, reader.getAttributeValue(null, "desc")));
+            currentMethod.setLine(reader.getAttributeValue(null, "line"));
+            methods.add(currentClass, currentMethod);
+        }
+    }
+
+    /*
+     * Only the counters of methods are stored, the ones of classes, packages, groups and the report come after the
+     * methods and are ignored.
+     */
+    private void startCounter(final XMLStreamReader reader) {
+        if (null != currentMethod) {
+            JacocoCounterDescriptor jacocoCounterDescriptor = counters.create(currentMethod);
+            jacocoCounterDescriptor.setType(reader.getAttributeValue(null, "type"));
+            jacocoCounterDescriptor.setMissed(Long.valueOf(reader.getAttributeValue(null, "missed")));
+            jacocoCounterDescriptor.setCovered(Long.valueOf(reader.getAttributeValue(null, "covered")));
+        }
+    }
+
+    // copied from VisitorHelper, should be a common utility class
+    static String getMethodSignature(String name, String desc) {
+        final StringBuilder signature = new StringBuilder();
+        String returnType = org.objectweb.asm.Type.getReturnType(desc).getClassName();
+        if (returnType != null) {
+            signature.append(returnType);
+            signature.append(' ');
+        }
+        signature.append(name);
+        signature.append('(');
+        org.objectweb.asm.Type[] types = org.objectweb.asm.Type.getArgumentTypes(desc);
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(types[i].getClassName());
+        }
+        signature.append(')');
+        return signature.toString();
+    }
+}
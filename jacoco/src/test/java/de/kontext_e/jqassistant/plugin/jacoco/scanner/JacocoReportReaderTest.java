@@ -0,0 +1,89 @@
+package de.kontext_e.jqassistant.plugin.jacoco.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoClassDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoCounterDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoMethodDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoPackageDescriptor;
+import de.kontext_e.jqassistant.plugin.jacoco.store.descriptor.JacocoReportDescriptor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JacocoReportReaderTest {
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<!DOCTYPE report PUBLIC \"-//JACOCO//DTD Report 1.1//EN\" \"report.dtd\">" +
+            "<report name=\"example\">" +
+            "<sessioninfo id=\"host-1\" start=\"1500000000000\" dump=\"1500000001000\"/>" +
+            "<group name=\"module\">" +
+            "<package name=\"org/example\">" +
+            "<class name=\"org/example/Example\">" +
+            "<method name=\"&lt;init&gt;\" desc=\"()V\" line=\"3\">" +
+            "<counter type=\"INSTRUCTION\" missed=\"0\" covered=\"3\"/>" +
+            "</method>" +
+            "<method name=\"find\" desc=\"(Ljava/lang/String;[I)Ljava/util/List;\" line=\"7\">" +
+            "<counter type=\"INSTRUCTION\" missed=\"4\" covered=\"2\"/>" +
+            "<counter type=\"BRANCH\" missed=\"1\" covered=\"1\"/>" +
+            "</method>" +
+            "<counter type=\"CLASS\" missed=\"0\" covered=\"1\"/>" +
+            "</class>" +
+            "<sourcefile name=\"Example.java\">" +
+            "<line nr=\"3\" mi=\"0\" ci=\"3\" mb=\"0\" cb=\"0\"/>" +
+            "<counter type=\"LINE\" missed=\"1\" covered=\"2\"/>" +
+            "</sourcefile>" +
+            "<counter type=\"LINE\" missed=\"1\" covered=\"2\"/>" +
+            "</package>" +
+            "</group>" +
+            "<counter type=\"LINE\" missed=\"1\" covered=\"2\"/>" +
+            "</report>";
+
+    private final Store mockStore = mock(Store.class);
+    private final JacocoReportDescriptor mockReport = mock(JacocoReportDescriptor.class);
+    private final JacocoPackageDescriptor mockPackage = mock(JacocoPackageDescriptor.class);
+    private final JacocoClassDescriptor mockClass = mock(JacocoClassDescriptor.class);
+    private final JacocoMethodDescriptor mockMethod = mock(JacocoMethodDescriptor.class);
+    private final JacocoCounterDescriptor mockCounter = mock(JacocoCounterDescriptor.class);
+
+    @Before
+    public void setUp() {
+        when(mockStore.create(JacocoPackageDescriptor.class)).thenReturn(mockPackage);
+        when(mockStore.create(JacocoClassDescriptor.class)).thenReturn(mockClass);
+        when(mockStore.create(JacocoMethodDescriptor.class)).thenReturn(mockMethod);
+        when(mockStore.create(JacocoCounterDescriptor.class)).thenReturn(mockCounter);
+        when(mockReport.getJacocoPackages()).thenReturn(new HashSet<>());
+        when(mockPackage.getJacocoClasses()).thenReturn(new HashSet<>());
+        when(mockClass.getJacocoMethods()).thenReturn(new HashSet<>());
+        when(mockMethod.getJacocoCounters()).thenReturn(new HashSet<>());
+        when(mockClass.getName()).thenReturn("org/example/Example");
+    }
+
+    @Test
+    public void thatPackagesClassesMethodsAndTheirCountersAreRead() throws IOException {
+        JacocoReportReader reader = new JacocoReportReader(mockStore, false);
+
+        reader.read(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), mockReport);
+
+        verify(mockStore).create(JacocoPackageDescriptor.class);
+        verify(mockPackage).setName("org/example");
+        verify(mockStore).create(JacocoClassDescriptor.class);
+        verify(mockClass).setFullQualifiedName("org.example.Example");
+        verify(mockStore, times(2)).create(JacocoMethodDescriptor.class);
+        verify(mockMethod).setSignature("void <init>()");
+        verify(mockMethod).setSignature("java.util.List find(java.lang.String,int[])");
+        verify(mockMethod).setLine("7");
+        // only the counters of the methods
+        verify(mockStore, times(3)).create(JacocoCounterDescriptor.class);
+        verify(mockCounter).setType("BRANCH");
+        verify(mockCounter).setMissed(4L);
+        verify(mockCounter).setCovered(3L);
+    }
+}
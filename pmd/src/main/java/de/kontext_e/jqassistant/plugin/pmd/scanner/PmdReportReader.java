@@ -0,0 +1,108 @@
+package de.kontext_e.jqassistant.plugin.pmd.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.pmd.store.PmdFileDescriptor;
+import de.kontext_e.jqassistant.plugin.pmd.store.PmdReportDescriptor;
+import de.kontext_e.jqassistant.plugin.pmd.store.PmdViolationDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkRelationWriter;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriter;
+import de.kontext_e.jqassistant.plugin.xmlreport.RelatedDescriptors;
+import de.kontext_e.jqassistant.plugin.xmlreport.Relations;
+import de.kontext_e.jqassistant.plugin.xmlreport.XmlReportReader;
+
+/**
+ * Streams a PMD XML report into the store.
+ *
+ * A file and its violations are created while their elements are read, so only the current file is held in memory,
+ * however large the report is. The full qualified name of a file is taken from its first violation. The processing
+ * errors, the suppressed violations and the configuration errors are skipped.
+ */
+class PmdReportReader {
+
+    private final Store store;
+    private final PmdReportScannerPlugin plugin;
+    private final Relations<PmdReportDescriptor, PmdFileDescriptor> files;
+    private final RelatedDescriptors<PmdFileDescriptor, PmdViolationDescriptor> violations;
+
+    private PmdFileDescriptor currentFile;
+    private boolean hasViolations;
+
+    /**
+     * @param plugin Determines the name of a file from its path.
+     * @param bulkImport Whether the violations and the relations of the files are written in batches.
+     */
+    PmdReportReader(final Store store, final PmdReportScannerPlugin plugin, final boolean bulkImport) {
+        this.store = store;
+        this.plugin = plugin;
+        if (bulkImport) {
+            files = new BulkRelationWriter<>(store, PmdReportDescriptor.class, PmdFileDescriptor.class);
+            violations = new BulkWriter<>(store, PmdFileDescriptor.class, PmdViolationDescriptor.class);
+        } else {
+            files = (pmdReportDescriptor, pmdFileDescriptor) -> pmdReportDescriptor.getFiles().add(pmdFileDescriptor);
+            violations = pmdFileDescriptor -> {
+                PmdViolationDescriptor vioDescriptor = store.create(PmdViolationDescriptor.class);
+                pmdFileDescriptor.getViolations().add(vioDescriptor);
+                return vioDescriptor;
+            };
+        }
+    }
+
+    void read(final InputStream inputStream, final PmdReportDescriptor pmdReportDescriptor) throws IOException {
+        new XmlReportReader()
+                .on("file", reader -> startFile(reader, pmdReportDescriptor), () -> currentFile = null)
+                .on("violation", this::startViolation)
+                .skip("error", "suppressedviolation", "configerror")
+                .read(inputStream, "PMD");
+        files.flush();
+        violations.flush();
+    }
+
+    private void startFile(final XMLStreamReader reader, final PmdReportDescriptor pmdReportDescriptor) {
+        currentFile = store.create(PmdFileDescriptor.class);
+        hasViolations = false;
+        currentFile.setName(plugin.truncateName(reader.getAttributeValue(null, "name")));
+        files.add(pmdReportDescriptor, currentFile);
+    }
+
+    /*
+     * Reads the violation up to its end, as its text is the message.
+     */
+    private void startViolation(final XMLStreamReader reader) throws XMLStreamException {
+        if (null == currentFile) {
+            return;
+        }
+        final String packageName = reader.getAttributeValue(null, "package");
+        final String className = reader.getAttributeValue(null, "class");
+        if (!hasViolations) {
+            currentFile.setFullQualifiedName(packageName + "." + className);
+            hasViolations = true;
+        }
+
+        final PmdViolationDescriptor vioDescriptor = violations.create(currentFile);
+        vioDescriptor.setBeginLine(toInteger(reader.getAttributeValue(null, "beginline")));
+        vioDescriptor.setEndLine(toInteger(reader.getAttributeValue(null, "endline")));
+        vioDescriptor.setBeginColumn(toInteger(reader.getAttributeValue(null, "begincolumn")));
+        vioDescriptor.setEndColumn(toInteger(reader.getAttributeValue(null, "endcolumn")));
+        vioDescriptor.setRule(reader.getAttributeValue(null, "rule"));
+        vioDescriptor.setRuleSet(reader.getAttributeValue(null, "ruleset"));
+        vioDescriptor.setPackage(packageName);
+        vioDescriptor.setClassName(className);
+        vioDescriptor.setMethod(reader.getAttributeValue(null, "method"));
+        vioDescriptor.setVariable(reader.getAttributeValue(null, "variable"));
+        vioDescriptor.setExternalInfoUrl(reader.getAttributeValue(null, "externalInfoUrl"));
+        vioDescriptor.setPriority(toInteger(reader.getAttributeValue(null, "priority")));
+        vioDescriptor.setMessage(reader.getElementText());
+    }
+
+    private static Integer toInteger(final String value) {
+        if (null == value) {
+            return null;
+        }
+        return Integer.valueOf(value.trim());
+    }
+}
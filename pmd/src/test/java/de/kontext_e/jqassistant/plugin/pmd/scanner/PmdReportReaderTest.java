@@ -0,0 +1,66 @@
+package de.kontext_e.jqassistant.plugin.pmd.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import de.kontext_e.jqassistant.plugin.pmd.store.PmdFileDescriptor;
+import de.kontext_e.jqassistant.plugin.pmd.store.PmdReportDescriptor;
+import de.kontext_e.jqassistant.plugin.pmd.store.PmdViolationDescriptor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PmdReportReaderTest {
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<pmd xmlns=\"http://pmd.sourceforge.net/report/2.0.0\" version=\"5.5.1\" timestamp=\"2017-07-01T10:00:00.000\">" +
+            "<file name=\"Example.java\">" +
+            "<violation beginline=\"3\" endline=\"5\" begincolumn=\"1\" endcolumn=\"2\" rule=\"UnusedPrivateField\" ruleset=\"Unused Code\" package=\"org.example\" class=\"Example\" variable=\"unused\" externalInfoUrl=\"https://pmd.github.io/\" priority=\"3\">" +
+            "Avoid unused private fields such as &apos;unused&apos;." +
+            "</violation>" +
+            "<violation beginline=\"7\" endline=\"7\" begincolumn=\"5\" endcolumn=\"9\" rule=\"EmptyCatchBlock\" ruleset=\"Empty Code\" package=\"org.example\" class=\"Inner\" method=\"run\" priority=\"1\">" +
+            "Avoid empty catch blocks" +
+            "</violation>" +
+            "</file>" +
+            "<error filename=\"Broken.java\" msg=\"Cannot parse\"/>" +
+            "<suppressedviolation filename=\"Example.java\" suppressiontype=\"nopmd\" msg=\"Suppressed\" usermsg=\"\"/>" +
+            "</pmd>";
+
+    private final Store mockStore = mock(Store.class);
+    private final PmdReportDescriptor mockReport = mock(PmdReportDescriptor.class);
+    private final PmdFileDescriptor mockFile = mock(PmdFileDescriptor.class);
+    private final PmdViolationDescriptor mockViolation = mock(PmdViolationDescriptor.class);
+
+    @Before
+    public void setUp() {
+        when(mockStore.create(PmdFileDescriptor.class)).thenReturn(mockFile);
+        when(mockStore.create(PmdViolationDescriptor.class)).thenReturn(mockViolation);
+        when(mockReport.getFiles()).thenReturn(new HashSet<>());
+        when(mockFile.getViolations()).thenReturn(new HashSet<>());
+    }
+
+    @Test
+    public void thatFilesAndTheirViolationsAreRead() throws IOException {
+        PmdReportReader reader = new PmdReportReader(mockStore, new PmdReportScannerPlugin(), false);
+
+        reader.read(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), mockReport);
+
+        verify(mockStore).create(PmdFileDescriptor.class);
+        verify(mockFile).setName("Example.java");
+        // from the first violation only
+        verify(mockFile).setFullQualifiedName("org.example.Example");
+        verify(mockStore, times(2)).create(PmdViolationDescriptor.class);
+        verify(mockViolation).setBeginLine(3);
+        verify(mockViolation).setRuleSet("Unused Code");
+        verify(mockViolation).setMethod(null);
+        verify(mockViolation).setMethod("run");
+        verify(mockViolation).setPriority(1);
+        verify(mockViolation).setMessage("Avoid unused private fields such as 'unused'.");
+    }
+}
@@ -0,0 +1,103 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time per report for the many small reports of a build with many modules, so the setup of the parser
+ * counts as much as the parsing. The reports are PMD reports with a few violations read into the blackhole, like the
+ * PMD plugin reads them into descriptors.
+ *
+ * The factory is created for every report, once like the plugins created theirs, or taken from the thread, as the
+ * plugins do now. Run it with more threads ('-t') to see that the factories of the threads don't get in each other's
+ * way; {@link #main(String[])} adds the allocation per report of the GC profiler ('gc.alloc.rate.norm').
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SmallReportBenchmark {
+
+    @Param("5")
+    private int violations;
+
+    private byte[] report;
+    private XMLInputFactory pluginInputFactory;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        builder.append("<pmd xmlns=\"http://pmd.sourceforge.net/report/2.0.0\" version=\"5.5.1\" timestamp=\"2017-07-01T10:00:00.000\">\n");
+        for (int i = 0; i < violations; i++) {
+            builder.append("<file name=\"/project/module/src/main/java/org/example/Example").append(i).append(".java\">\n");
+            builder.append("<violation beginline=\"").append(i + 1).append("\" endline=\"").append(i + 3)
+                    .append("\" begincolumn=\"5\" endcolumn=\"9\" rule=\"UnusedPrivateField\" ruleset=\"Unused Code\"")
+                    .append(" package=\"org.example\" class=\"Example").append(i).append("\" variable=\"unused\"")
+                    .append(" externalInfoUrl=\"https://pmd.github.io/\" priority=\"3\">\n")
+                    .append("Avoid unused private fields such as 'unused'.\n</violation>\n</file>\n");
+        }
+        report = builder.append("</pmd>\n").toString().getBytes(StandardCharsets.UTF_8);
+        pluginInputFactory = XmlReportReader.createInputFactory();
+    }
+
+    @Benchmark
+    public void factoryPerReport(final Blackhole blackhole) throws IOException {
+        read(new XmlReportReader(XmlReportReader.createInputFactory()), blackhole);
+    }
+
+    @Benchmark
+    public void factoryPerPlugin(final Blackhole blackhole) throws IOException {
+        read(new XmlReportReader(pluginInputFactory), blackhole);
+    }
+
+    @Benchmark
+    public void factoryPerThread(final Blackhole blackhole) throws IOException {
+        read(new XmlReportReader(), blackhole);
+    }
+
+    private void read(final XmlReportReader xmlReportReader, final Blackhole blackhole) throws IOException {
+        xmlReportReader
+                .on("file", reader -> blackhole.consume(reader.getAttributeValue(null, "name")))
+                .on("violation", reader -> readViolation(reader, blackhole))
+                .read(new ByteArrayInputStream(report), "PMD");
+    }
+
+    private static void readViolation(final XMLStreamReader reader, final Blackhole blackhole) throws XMLStreamException {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            blackhole.consume(reader.getAttributeValue(i));
+        }
+        blackhole.consume(reader.getElementText());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SmallReportBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
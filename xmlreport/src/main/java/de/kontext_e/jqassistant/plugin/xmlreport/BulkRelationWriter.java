@@ -0,0 +1,65 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+
+/**
+ * Writes relations between descriptors already in the store in batches with one parameterized UNWIND statement per
+ * batch.
+ *
+ * Adding a descriptor to a set of the store first looks through all the descriptors related so far, so relating
+ * thousands of files to a report one by one takes time growing with the square of their number. The relation type
+ * is taken from the annotations of the parent type like for a {@link BulkWriter}.
+ */
+public class BulkRelationWriter<P extends Descriptor, D extends Descriptor> implements Relations<P, D> {
+
+    private final Store store;
+    private final int batchSize;
+    private final String query;
+    private List<Map<String, Object>> rows = new ArrayList<>();
+
+    /**
+     * @param parentType Type of the parents, one of its getters must be the relation to the descriptors.
+     * @param type Type of the descriptors.
+     */
+    public BulkRelationWriter(final Store store, final Class<P> parentType, final Class<D> type) {
+        this(store, parentType, type, BulkWriter.BATCH_SIZE);
+    }
+
+    BulkRelationWriter(final Store store, final Class<P> parentType, final Class<D> type, final int batchSize) {
+        this.store = store;
+        this.batchSize = batchSize;
+        this.query = "UNWIND {rows} AS row " +
+                     "MATCH (parent), (descriptor) WHERE id(parent) = row.parent AND id(descriptor) = row.descriptor " +
+                     "CREATE (parent)-[:`" + BulkWriter.getRelationType(parentType, type) + "`]->(descriptor)";
+    }
+
+    @Override
+    public void add(final P parent, final D descriptor) {
+        if (rows.size() >= batchSize) {
+            flush();
+        }
+        Map<String, Object> row = new HashMap<>();
+        row.put("parent", parent.getId());
+        row.put("descriptor", descriptor.getId());
+        rows.add(row);
+    }
+
+    @Override
+    public void flush() {
+        if (!rows.isEmpty()) {
+            store.executeQuery(query, Collections.singletonMap("rows", rows)).close();
+            rows = new ArrayList<>();
+        }
+    }
+
+    String getQuery() {
+        return query;
+    }
+}
@@ -0,0 +1,255 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.beans.Introspector;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+import com.buschmais.xo.api.CompositeObject;
+import com.buschmais.xo.neo4j.api.annotation.Label;
+import com.buschmais.xo.neo4j.api.annotation.Property;
+import com.buschmais.xo.neo4j.api.annotation.Relation;
+
+/**
+ * Writes related descriptors in batches with one parameterized UNWIND statement per batch instead of creating each
+ * of them and its relation through the store.
+ *
+ * The descriptors handed out only record the values given to their setters. The labels, the property names and the
+ * relation type are taken from the annotations of the descriptor types, so the nodes and relationships are the same
+ * as the ones the store would have created. Null values are left out, like the store removes a property set to
+ * null; enums are written by their names. An unset property of a primitive type reads as its default value.
+ *
+ * Only descriptor types made of getters and setters of plain values can be written in bulk, the constructor rejects
+ * types with relations or other methods. The methods of {@link CompositeObject} are not supported, the descriptors
+ * are not in the store before they are flushed.
+ */
+public class BulkWriter<P extends Descriptor, D extends Descriptor> implements RelatedDescriptors<P, D> {
+
+    static final int BATCH_SIZE = 10000;
+
+    private final Store store;
+    private final int batchSize;
+    private final String query;
+    // setter and getter -> property name
+    private final Map<Method, String> properties = new HashMap<>();
+    private final Constructor<?> proxyConstructor;
+    private List<Map<String, Object>> rows = new ArrayList<>();
+
+    /**
+     * @param parentType Type of the parents, one of its getters must be the relation to the descriptors.
+     * @param type Type of the descriptors.
+     */
+    public BulkWriter(final Store store, final Class<P> parentType, final Class<D> type) {
+        this(store, parentType, type, BATCH_SIZE);
+    }
+
+    BulkWriter(final Store store, final Class<P> parentType, final Class<D> type, final int batchSize) {
+        this.store = store;
+        this.batchSize = batchSize;
+        StringBuilder labels = new StringBuilder();
+        for (String label : getLabels(type)) {
+            labels.append(":`").append(label).append('`');
+        }
+        this.query = "UNWIND {rows} AS row " +
+                     "MATCH (parent) WHERE id(parent) = row.parent " +
+                     "CREATE (parent)-[:`" + getRelationType(parentType, type) + "`]->(descriptor" + labels + ") " +
+                     "SET descriptor = row.properties";
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || CompositeObject.class.equals(method.getDeclaringClass())) {
+                continue;
+            }
+            String propertyName = getPropertyName(type, method);
+            if (null == propertyName || !isValueType(getPropertyType(method))) {
+                throw new IllegalArgumentException(type.getName() + " cannot be written in bulk, " + method.getName() +
+                                                   " is not a getter or setter of a value");
+            }
+            properties.put(method, propertyName);
+        }
+        try {
+            proxyConstructor = Proxy.getProxyClass(type.getClassLoader(), type).getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Cannot create descriptors of type " + type.getName(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public D create(final P parent) {
+        if (rows.size() >= batchSize) {
+            flush();
+        }
+        Map<String, Object> values = new HashMap<>();
+        Map<String, Object> row = new HashMap<>();
+        row.put("parent", parent.getId());
+        row.put("properties", values);
+        rows.add(row);
+        try {
+            return (D) proxyConstructor.newInstance(new ValueRecorder(values));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create descriptor.", e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (!rows.isEmpty()) {
+            store.executeQuery(query, Collections.singletonMap("rows", rows)).close();
+            rows = new ArrayList<>();
+        }
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    /*
+     * The labels of the type and of all the types it extends, like the store adds them.
+     */
+    private static Set<String> getLabels(final Class<?> type) {
+        Set<String> labels = new LinkedHashSet<>();
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(type);
+        while (!types.isEmpty()) {
+            Class<?> current = types.poll();
+            Label label = current.getAnnotation(Label.class);
+            if (null != label) {
+                labels.add(label.value());
+            }
+            Collections.addAll(types, current.getInterfaces());
+        }
+        return labels;
+    }
+
+    /*
+     * The type of the only relation of the parent type to a collection of the type.
+     */
+    static String getRelationType(final Class<?> parentType, final Class<?> type) {
+        String relationType = null;
+        for (Method method : parentType.getMethods()) {
+            Relation relation = method.getAnnotation(Relation.class);
+            if (null != relation && Collection.class.isAssignableFrom(method.getReturnType()) && type.equals(getElementType(method))) {
+                if (null != relationType) {
+                    throw new IllegalArgumentException(parentType.getName() + " has more than one relation to " + type.getName());
+                }
+                relationType = relation.value();
+            }
+        }
+        if (null == relationType) {
+            throw new IllegalArgumentException(parentType.getName() + " has no relation to " + type.getName());
+        }
+        return relationType;
+    }
+
+    private static Type getElementType(final Method method) {
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            return ((ParameterizedType) returnType).getActualTypeArguments()[0];
+        }
+        return null;
+    }
+
+    /*
+     * The name of the property a getter or setter of the type stands for: the value of the Property annotation on
+     * the getter, otherwise the name of the bean property. Like the store, annotations on setters are ignored.
+     */
+    private static String getPropertyName(final Class<?> type, final Method method) {
+        String beanName = getBeanName(method);
+        if (null == beanName) {
+            return null;
+        }
+        for (String accessor : new String[] {"get", "is"}) {
+            for (Method candidate : type.getMethods()) {
+                Property property = candidate.getAnnotation(Property.class);
+                if (null != property && candidate.getName().equals(accessor + beanName)) {
+                    return property.value();
+                }
+            }
+        }
+        return Introspector.decapitalize(beanName);
+    }
+
+    private static Class<?> getPropertyType(final Method method) {
+        return method.getParameterCount() == 1 ? method.getParameterTypes()[0] : method.getReturnType();
+    }
+
+    /*
+     * The types the store writes as property values.
+     */
+    private static boolean isValueType(final Class<?> type) {
+        Class<?> valueType = type.isArray() ? type.getComponentType() : type;
+        return (valueType.isPrimitive() && !void.class.equals(valueType)) || String.class.equals(valueType) ||
+               Number.class.isAssignableFrom(valueType) || Boolean.class.equals(valueType) ||
+               Character.class.equals(valueType) || valueType.isEnum();
+    }
+
+    private static String getBeanName(final Method method) {
+        String name = method.getName();
+        if (name.startsWith("set") && name.length() > 3 && method.getParameterCount() == 1) {
+            return name.substring(3);
+        }
+        if (name.startsWith("get") && name.length() > 3 && method.getParameterCount() == 0 && !"getId".equals(name)) {
+            return name.substring(3);
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getParameterCount() == 0) {
+            return name.substring(2);
+        }
+        return null;
+    }
+
+    private class ValueRecorder implements InvocationHandler {
+        private final Map<String, Object> values;
+
+        ValueRecorder(final Map<String, Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            String propertyName = properties.get(method);
+            if (null != propertyName && null != args) {
+                Object value = args[0];
+                if (null == value) {
+                    values.remove(propertyName);
+                } else {
+                    values.put(propertyName, value instanceof Enum ? ((Enum<?>) value).name() : value);
+                }
+                return null;
+            }
+            if (null != propertyName) {
+                Object value = values.get(propertyName);
+                if (null == value && method.getReturnType().isPrimitive()) {
+                    return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+                }
+                return value;
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return values.toString();
+                default:
+                    throw new UnsupportedOperationException(method.getName() + " is not supported by descriptors written in bulk, they are not in the store yet.");
+            }
+        }
+    }
+}
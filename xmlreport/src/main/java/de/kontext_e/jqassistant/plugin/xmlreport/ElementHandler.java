@@ -0,0 +1,26 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reacts to the elements of a given name while an {@link XmlReportReader} streams a report.
+ */
+@FunctionalInterface
+public interface ElementHandler {
+
+    /**
+     * Called at the start of the element, the reader is positioned on it, so its attributes can be read.
+     * The handler may read further, e.g. the text with {@link XMLStreamReader#getElementText()} or the children with
+     * {@link XmlReportReader#nextChild(XMLStreamReader)}, but not beyond the end of the element. If it stops within
+     * the element, the walk goes on from there; the handlers of the children it has read are not called.
+     */
+    void start(XMLStreamReader reader) throws XMLStreamException;
+
+    /**
+     * Called once at the end of this element, also when {@link #start(XMLStreamReader)} has read up to it, but not at
+     * the end of a child the start has read, even if the child has the same name.
+     */
+    default void end() {
+    }
+}
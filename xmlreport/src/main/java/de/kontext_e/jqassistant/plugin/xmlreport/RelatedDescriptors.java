@@ -0,0 +1,25 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+
+/**
+ * Creates the descriptors a report has many of, each related to the descriptor of the element containing it, e.g.
+ * the violations of a file.
+ *
+ * The usual way is a lambda creating the descriptor in the store and adding it to the relation of the parent; a
+ * {@link BulkWriter} writes them in batches instead.
+ */
+@FunctionalInterface
+public interface RelatedDescriptors<P extends Descriptor, D extends Descriptor> {
+
+    /**
+     * @return A descriptor related to the parent. Only its setters and getters may be called.
+     */
+    D create(P parent);
+
+    /**
+     * Writes the descriptors not written yet, called when the report has been read.
+     */
+    default void flush() {
+    }
+}
@@ -0,0 +1,21 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+
+/**
+ * Relates the descriptors of a report to the descriptor of the element containing them, e.g. the files to the report.
+ *
+ * The usual way is a lambda adding the descriptor to the relation of the parent; a {@link BulkRelationWriter} writes
+ * the relations in batches instead.
+ */
+@FunctionalInterface
+public interface Relations<P extends Descriptor, D extends Descriptor> {
+
+    void add(P parent, D descriptor);
+
+    /**
+     * Writes the relations not written yet, called when the report has been read.
+     */
+    default void flush() {
+    }
+}
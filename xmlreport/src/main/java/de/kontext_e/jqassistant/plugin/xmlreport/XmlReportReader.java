@@ -0,0 +1,223 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+/**
+ * Streams an XML report with StAX and hands its elements to the {@link ElementHandler}s registered for their names.
+ *
+ * Elements are matched by their local name, whatever namespace the report uses. Elements without a handler are
+ * walked through, so the handlers of their children are called; skipped elements are passed over with all their
+ * children. The end of a handled element is told apart from the end of its children by its depth. Nothing is kept
+ * between the events, so a report of any size is read in constant memory as long as the handlers don't collect.
+ *
+ * Readers created without a factory share one factory per thread. It reuses the stream reader of the former report
+ * where the StAX implementation allows it, which makes up most of the time spent on a small report.
+ */
+public class XmlReportReader {
+
+    /*
+     * Property of the StAX implementation of the JDK, not of StAX itself.
+     */
+    private static final String REUSE_INSTANCE = "reuse-instance";
+
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORIES = ThreadLocal.withInitial(XmlReportReader::createReusingInputFactory);
+
+    private final XMLInputFactory inputFactory;
+    private final Map<String, ElementHandler> handlers = new HashMap<>();
+    private final Set<String> skipped = new HashSet<>();
+
+    /**
+     * Uses the factory of the current thread.
+     */
+    public XmlReportReader() {
+        this(INPUT_FACTORIES.get());
+    }
+
+    public XmlReportReader(final XMLInputFactory inputFactory) {
+        this.inputFactory = inputFactory;
+    }
+
+    /**
+     * @return An input factory that neither reads DTDs, like the report.dtd of JaCoCo, nor resolves external entities.
+     */
+    public static XMLInputFactory createInputFactory() {
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return inputFactory;
+    }
+
+    /*
+     * A factory reusing its stream reader must not be shared between threads.
+     */
+    private static XMLInputFactory createReusingInputFactory() {
+        XMLInputFactory inputFactory = createInputFactory();
+        if (inputFactory.isPropertySupported(REUSE_INSTANCE)) {
+            inputFactory.setProperty(REUSE_INSTANCE, true);
+        }
+        return inputFactory;
+    }
+
+    public XmlReportReader on(final String localName, final ElementHandler handler) {
+        handlers.put(localName, handler);
+        return this;
+    }
+
+    /**
+     * Registers a handler of the start of the element and a callback for its end.
+     */
+    public XmlReportReader on(final String localName, final ElementHandler start, final Runnable end) {
+        return on(localName, new ElementHandler() {
+            @Override
+            public void start(final XMLStreamReader reader) throws XMLStreamException {
+                start.start(reader);
+            }
+
+            @Override
+            public void end() {
+                end.run();
+            }
+        });
+    }
+
+    public XmlReportReader skip(final String... localNames) {
+        for (String localName : localNames) {
+            skipped.add(localName);
+        }
+        return this;
+    }
+
+    /**
+     * @param report Name of the report format for the message of the exception.
+     * @throws IOException If the stream is not well-formed XML, wrapping the {@link XMLStreamException}.
+     */
+    public void read(final InputStream inputStream, final String report) throws IOException {
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            try {
+                read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot read " + report + " report.", e);
+        }
+    }
+
+    /*
+     * The handled elements that are open, innermost first, with their depth. An element ends when the depth drops
+     * below its own, whether the walk or its handler has read up to the end.
+     */
+    private void read(final XMLStreamReader streamReader) throws XMLStreamException {
+        DepthTrackingReader reader = new DepthTrackingReader(streamReader);
+        Deque<ElementHandler> openHandlers = new ArrayDeque<>();
+        Deque<Integer> openDepths = new ArrayDeque<>();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String localName = reader.getLocalName();
+                if (skipped.contains(localName)) {
+                    skipElement(reader);
+                    continue;
+                }
+                ElementHandler handler = handlers.get(localName);
+                if (null != handler) {
+                    openHandlers.push(handler);
+                    openDepths.push(reader.depth);
+                    handler.start(reader);
+                    endElements(reader, openHandlers, openDepths);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                endElements(reader, openHandlers, openDepths);
+            }
+        }
+    }
+
+    private static void endElements(final DepthTrackingReader reader, final Deque<ElementHandler> openHandlers, final Deque<Integer> openDepths) {
+        while (!openDepths.isEmpty() && openDepths.peek() > reader.depth) {
+            openDepths.pop();
+            openHandlers.pop().end();
+        }
+    }
+
+    /**
+     * Moves to the next child element of the current element.
+     *
+     * @return false at the end of the current element.
+     */
+    public static boolean nextChild(final XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads up to the end of the current element without looking at its content.
+     */
+    public static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /*
+     * Counts the open elements, also while a handler reads on.
+     */
+    private static class DepthTrackingReader extends StreamReaderDelegate {
+        private int depth;
+
+        DepthTrackingReader(final XMLStreamReader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            return count(super.next());
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            return count(super.nextTag());
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            String text = super.getElementText();
+            depth--;
+            return text;
+        }
+
+        private int count(final int event) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+            return event;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.xo.api.Query;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriterTest.FileDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriterTest.IssueDescriptor;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkRelationWriterTest {
+
+    private final Store mockStore = mock(Store.class);
+    private final FileDescriptor mockFile = mock(FileDescriptor.class);
+    private final IssueDescriptor mockIssue = mock(IssueDescriptor.class);
+
+    @SuppressWarnings("unchecked")
+    public BulkRelationWriterTest() {
+        when(mockStore.executeQuery(anyString(), anyMapOf(String.class, Object.class))).thenReturn(mock(Query.Result.class));
+        when(mockFile.getId()).thenReturn(42L);
+        when(mockIssue.getId()).thenReturn(43L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void thatRelationsAreWrittenByTheIdsOfTheirDescriptors() {
+        BulkRelationWriter<FileDescriptor, IssueDescriptor> writer = new BulkRelationWriter<>(mockStore, FileDescriptor.class, IssueDescriptor.class);
+
+        writer.add(mockFile, mockIssue);
+        writer.flush();
+
+        assertEquals("UNWIND {rows} AS row " +
+                     "MATCH (parent), (descriptor) WHERE id(parent) = row.parent AND id(descriptor) = row.descriptor " +
+                     "CREATE (parent)-[:`HAS_ISSUE`]->(descriptor)",
+                writer.getQuery());
+        ArgumentCaptor<Map> parameters = ArgumentCaptor.forClass(Map.class);
+        verify(mockStore).executeQuery(eq(writer.getQuery()), parameters.capture());
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) parameters.getValue().get("rows");
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("parent", 42L);
+        expected.put("descriptor", 43L);
+        assertEquals(1, rows.size());
+        assertEquals(expected, rows.get(0));
+    }
+
+    @Test
+    public void thatFullBatchesAreWrittenAndEmptyOnesAreNot() {
+        BulkRelationWriter<FileDescriptor, IssueDescriptor> writer = new BulkRelationWriter<>(mockStore, FileDescriptor.class, IssueDescriptor.class, 2);
+
+        writer.flush();
+        verify(mockStore, never()).executeQuery(anyString(), anyMapOf(String.class, Object.class));
+
+        for (int i = 0; i < 3; i++) {
+            writer.add(mockFile, mockIssue);
+        }
+        verify(mockStore, times(1)).executeQuery(anyString(), anyMapOf(String.class, Object.class));
+        writer.flush();
+        verify(mockStore, times(2)).executeQuery(anyString(), anyMapOf(String.class, Object.class));
+    }
+}
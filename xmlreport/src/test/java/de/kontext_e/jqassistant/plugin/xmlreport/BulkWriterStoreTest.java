@@ -0,0 +1,100 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.StoreConfiguration;
+import com.buschmais.jqassistant.core.store.impl.EmbeddedGraphStore;
+import com.buschmais.xo.api.Query;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriterTest.ExampleDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriterTest.FileDescriptor;
+import de.kontext_e.jqassistant.plugin.xmlreport.BulkWriterTest.IssueDescriptor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class BulkWriterStoreTest {
+
+    private static final String ISSUES = "MATCH (file:File)-[relation]->(issue) WHERE id(file) = {file} " +
+                                         "RETURN type(relation) AS type, labels(issue) AS labels, keys(issue) AS keys, " +
+                                         "issue.line AS line, issue.message AS message, issue.unit AS unit, " +
+                                         "issue.severity AS severity, issue.fixed AS fixed";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Store store;
+
+    @Before
+    public void startStore() throws IOException {
+        store = new EmbeddedGraphStore(StoreConfiguration.builder().uri(folder.newFolder().toURI()).build());
+        store.start(Arrays.asList(ExampleDescriptor.class, FileDescriptor.class, IssueDescriptor.class));
+    }
+
+    @After
+    public void stopStore() {
+        store.stop();
+    }
+
+    @Test
+    public void thatDescriptorsWrittenInBulkEqualTheOnesOfTheStore() {
+        store.beginTransaction();
+        FileDescriptor storeFile = store.create(FileDescriptor.class);
+        IssueDescriptor storeIssue = store.create(IssueDescriptor.class);
+        storeFile.getIssues().add(storeIssue);
+        setValues(storeIssue);
+
+        FileDescriptor bulkFile = store.create(FileDescriptor.class);
+        BulkWriter<FileDescriptor, IssueDescriptor> writer = new BulkWriter<>(store, FileDescriptor.class, IssueDescriptor.class);
+        setValues(writer.create(bulkFile));
+        writer.flush();
+        store.commitTransaction();
+
+        List<String> storeRow = issue(storeFile);
+        assertEquals("[HAS_ISSUE, [Example, Issue], [fixed, line, message, severity, unit], 7, unread, SECONDS, 3, true]", storeRow.toString());
+        assertEquals(storeRow, issue(bulkFile));
+    }
+
+    private static void setValues(final IssueDescriptor issue) {
+        issue.setBeginLine(7);
+        issue.setMessage("unread");
+        issue.setUnit(TimeUnit.SECONDS);
+        issue.setSeverity(3);
+        issue.setFixed(true);
+    }
+
+    /*
+     * The relation, labels and properties of the only issue of the file, the labels and property names in order.
+     */
+    private List<String> issue(final FileDescriptor file) {
+        List<String> values = new ArrayList<>();
+        store.beginTransaction();
+        try (Query.Result<Query.Result.CompositeRowObject> result = store.executeQuery(ISSUES, Collections.singletonMap("file", file.getId()))) {
+            Query.Result.CompositeRowObject row = result.getSingleResult();
+            for (String column : row.getColumns()) {
+                Object value = row.get(column, Object.class);
+                if (value instanceof List) {
+                    List<String> sorted = new ArrayList<>();
+                    for (Object element : (List<?>) value) {
+                        sorted.add(String.valueOf(element));
+                    }
+                    Collections.sort(sorted);
+                    value = sorted;
+                }
+                values.add(String.valueOf(value));
+            }
+        } finally {
+            store.commitTransaction();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,169 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.buschmais.jqassistant.core.store.api.Store;
+import com.buschmais.jqassistant.core.store.api.model.Descriptor;
+import com.buschmais.xo.api.Query;
+import com.buschmais.xo.neo4j.api.annotation.Label;
+import com.buschmais.xo.neo4j.api.annotation.Property;
+import com.buschmais.xo.neo4j.api.annotation.Relation;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkWriterTest {
+
+    @Label("Example")
+    public interface ExampleDescriptor extends Descriptor {
+    }
+
+    @Label("File")
+    public interface FileDescriptor extends ExampleDescriptor {
+        @Relation("HAS_ISSUE")
+        List<IssueDescriptor> getIssues();
+    }
+
+    @Label("Issue")
+    public interface IssueDescriptor extends ExampleDescriptor {
+        @Property("line")
+        Integer getBeginLine();
+        void setBeginLine(Integer beginLine);
+
+        String getMessage();
+        @Property("text")
+        void setMessage(String message);
+
+        TimeUnit getUnit();
+        void setUnit(TimeUnit unit);
+
+        @Property("severity")
+        int getSeverity();
+        void setSeverity(int severity);
+
+        boolean isFixed();
+        void setFixed(boolean fixed);
+    }
+
+    @Label("Report")
+    public interface ReportDescriptor extends ExampleDescriptor {
+        @Relation("HAS_FILE")
+        List<FileDescriptor> getFiles();
+
+        @Relation("HAS_NOTE")
+        List<NoteDescriptor> getNotes();
+    }
+
+    @Label("Note")
+    public interface NoteDescriptor extends ExampleDescriptor {
+        String getText();
+        void setText(String text);
+
+        String summarize(int length);
+    }
+
+    private final Store mockStore = mock(Store.class);
+    private final FileDescriptor mockFile = mock(FileDescriptor.class);
+
+    @SuppressWarnings("unchecked")
+    public BulkWriterTest() {
+        when(mockStore.executeQuery(anyString(), anyMapOf(String.class, Object.class))).thenReturn(mock(Query.Result.class));
+        when(mockFile.getId()).thenReturn(42L);
+    }
+
+    @Test
+    public void thatLabelsAndRelationTypeAreTakenFromTheAnnotations() {
+        BulkWriter<FileDescriptor, IssueDescriptor> writer = new BulkWriter<>(mockStore, FileDescriptor.class, IssueDescriptor.class);
+
+        assertEquals("UNWIND {rows} AS row MATCH (parent) WHERE id(parent) = row.parent " +
+                     "CREATE (parent)-[:`HAS_ISSUE`]->(descriptor:`Issue`:`Example`) SET descriptor = row.properties",
+                writer.getQuery());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void thatRecordedValuesAreWrittenUnderThePropertyNamesOfTheirGetters() {
+        BulkWriter<FileDescriptor, IssueDescriptor> writer = new BulkWriter<>(mockStore, FileDescriptor.class, IssueDescriptor.class);
+
+        IssueDescriptor issue = writer.create(mockFile);
+        issue.setBeginLine(7);
+        issue.setMessage("unused");
+        issue.setMessage(null);
+        issue.setMessage("unread");
+        issue.setUnit(TimeUnit.SECONDS);
+        assertEquals(Integer.valueOf(7), issue.getBeginLine());
+        assertEquals("unread", issue.getMessage());
+        writer.flush();
+
+        ArgumentCaptor<Map> parameters = ArgumentCaptor.forClass(Map.class);
+        verify(mockStore).executeQuery(eq(writer.getQuery()), parameters.capture());
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) parameters.getValue().get("rows");
+        assertEquals(1, rows.size());
+        assertEquals(42L, rows.get(0).get("parent"));
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("line", 7);
+        expected.put("message", "unread");
+        expected.put("unit", "SECONDS");
+        assertEquals(expected, rows.get(0).get("properties"));
+    }
+
+    @Test
+    public void thatFullBatchesAreWrittenAndEmptyOnesAreNot() {
+        BulkWriter<FileDescriptor, IssueDescriptor> writer = new BulkWriter<>(mockStore, FileDescriptor.class, IssueDescriptor.class, 2);
+
+        writer.flush();
+        verify(mockStore, never()).executeQuery(anyString(), anyMapOf(String.class, Object.class));
+
+        for (int i = 0; i < 5; i++) {
+            writer.create(mockFile).setBeginLine(i);
+        }
+        verify(mockStore, times(2)).executeQuery(anyString(), anyMapOf(String.class, Object.class));
+        writer.flush();
+        writer.flush();
+        verify(mockStore, times(3)).executeQuery(anyString(), anyMapOf(String.class, Object.class));
+    }
+
+    @Test
+    public void thatUnsetPrimitivePropertiesReadAsTheirDefault() {
+        BulkWriter<FileDescriptor, IssueDescriptor> writer = new BulkWriter<>(mockStore, FileDescriptor.class, IssueDescriptor.class);
+
+        IssueDescriptor issue = writer.create(mockFile);
+        assertEquals(0, issue.getSeverity());
+        assertFalse(issue.isFixed());
+        assertNull(issue.getBeginLine());
+        issue.setSeverity(3);
+        issue.setFixed(true);
+        assertEquals(3, issue.getSeverity());
+        assertTrue(issue.isFixed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thatTypesWithoutRelationAreRejected() {
+        new BulkWriter<>(mockStore, IssueDescriptor.class, FileDescriptor.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thatTypesWithRelationsAreRejected() {
+        new BulkWriter<>(mockStore, ReportDescriptor.class, FileDescriptor.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thatTypesWithOtherMethodsThanGettersAndSettersAreRejected() {
+        new BulkWriter<>(mockStore, ReportDescriptor.class, NoteDescriptor.class);
+    }
+}
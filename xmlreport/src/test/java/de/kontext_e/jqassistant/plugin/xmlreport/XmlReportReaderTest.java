@@ -0,0 +1,104 @@
+package de.kontext_e.jqassistant.plugin.xmlreport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class XmlReportReaderTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    public void thatHandlersAreCalledAtAnyDepthAndSkippedElementsArePassedOver() throws IOException {
+        new XmlReportReader(XmlReportReader.createInputFactory())
+                .on("file", reader -> events.add("start " + reader.getAttributeValue(null, "name")), () -> events.add("end file"))
+                .on("issue", reader -> events.add("issue " + reader.getElementText()))
+                .skip("summary")
+                .read(stream("<report xmlns=\"http://example.org/report\"><group>" +
+                        "<file name=\"A.java\"><issue>first</issue><issue>second</issue></file>" +
+                        "<file name=\"B.java\"/>" +
+                        "</group><summary><file name=\"C.java\"/></summary></report>"), "Example");
+
+        List<String> expected = new ArrayList<>();
+        expected.add("start A.java");
+        expected.add("issue first");
+        expected.add("issue second");
+        expected.add("end file");
+        expected.add("start B.java");
+        expected.add("end file");
+        assertEquals(expected, events);
+    }
+
+    @Test
+    public void thatElementsEndOnceWhenTheirHandlerReadsPartOfThem() throws IOException {
+        new XmlReportReader(XmlReportReader.createInputFactory())
+                .on("file", reader -> {
+                    events.add("start " + reader.getAttributeValue(null, "name"));
+                    // reads the first child, up to its end
+                    if (XmlReportReader.nextChild(reader)) {
+                        events.add("first " + reader.getElementText());
+                    }
+                }, () -> events.add("end file"))
+                .on("issue", reader -> events.add("issue " + reader.getElementText()))
+                .read(stream("<report>" +
+                        "<file name=\"A.java\"><issue>first</issue><issue>second</issue></file>" +
+                        "<file name=\"B.java\"><file name=\"inner\"/><issue>third</issue></file>" +
+                        "</report>"), "Example");
+
+        List<String> expected = new ArrayList<>();
+        expected.add("start A.java");
+        expected.add("first first");
+        expected.add("issue second");
+        expected.add("end file");
+        expected.add("start B.java");
+        expected.add("first ");
+        expected.add("issue third");
+        expected.add("end file");
+        assertEquals(expected, events);
+    }
+
+    @Test(expected = IOException.class)
+    public void thatMalformedReportsCannotBeRead() throws IOException {
+        new XmlReportReader(XmlReportReader.createInputFactory()).read(stream("<report><file></report>"), "Example");
+    }
+
+    @Test
+    public void thatTheFactoryOfTheThreadCanReadReportsAfterEachOtherAndWithinEachOther() throws IOException {
+        try {
+            new XmlReportReader().read(stream("<report><file></report>"), "Example");
+        } catch (IOException e) {
+            events.add("failed");
+        }
+        new XmlReportReader()
+                .on("file", reader -> {
+                    events.add("outer " + reader.getAttributeValue(null, "name"));
+                    try {
+                        new XmlReportReader()
+                                .on("file", inner -> events.add("inner " + inner.getAttributeValue(null, "name")))
+                                .read(stream("<report><file name=\"X.java\"/></report>"), "Example");
+                    } catch (IOException e) {
+                        throw new XMLStreamException(e);
+                    }
+                })
+                .read(stream("<report><file name=\"A.java\"/><file name=\"B.java\"/></report>"), "Example");
+
+        List<String> expected = new ArrayList<>();
+        expected.add("failed");
+        expected.add("outer A.java");
+        expected.add("inner X.java");
+        expected.add("outer B.java");
+        expected.add("inner X.java");
+        assertEquals(expected, events);
+    }
+
+    private static InputStream stream(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}